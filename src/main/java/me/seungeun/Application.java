@@ -5,9 +5,11 @@ package me.seungeun;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+@EnableScheduling // Enables the periodic vaccine hospital cache refresh
 public class Application {
     public static void main(String[] args) {
         SpringApplication.run(Application.class,args);
@@ -0,0 +1,38 @@
+package me.seungeun.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "translation_memory",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"source_hash", "target_language"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationMemory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;  // Unique identifier (auto-generated)
+
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;  // SHA-256 of the source text, hex encoded
+
+    @Column(name = "target_language", nullable = false, length = 16)
+    private String targetLanguage;  // Language code the text was translated into
+
+    @Lob
+    @Column(nullable = false)
+    private String sourceText;  // Original text, compared on lookup to rule out hash collisions
+
+    @Lob
+    @Column(nullable = false)
+    private String translatedText;  // Translation returned by the translation API
+
+    @Column(nullable = false)
+    private Instant createdAt;  // Time the translation was stored
+}
@@ -0,0 +1,153 @@
+package me.seungeun.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import me.seungeun.dto.AdminRegion;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Administrative region codes (brtcCd/sggCd) for the whole country,
+ * loaded from resources/region/admin_regions.json.
+ */
+@Slf4j
+@Component
+public class AdminRegionRegistry {
+
+    private static final String RESOURCE = "region/admin_regions.json";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // All districts in file order
+    private final List<AdminRegion> regions = new ArrayList<>();
+
+    // Province name or alias (e.g., 서울, 강원도) -> official province name
+    private final Map<String, String> provinceNames = new HashMap<>();
+
+    // "province|district" -> region
+    private final Map<String, AdminRegion> byName = new HashMap<>();
+
+    // Region key -> region
+    private final Map<String, AdminRegion> byKey = new LinkedHashMap<>();
+
+    public AdminRegionRegistry() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                log.warn("Administrative region file not found: {}", RESOURCE);
+                return;
+            }
+
+            List<Province> provinces = objectMapper.readValue(
+                    inputStream,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Province.class)
+            );
+
+            for (Province province : provinces) {
+                provinceNames.put(province.getName(), province.getName());
+                province.getAliases().forEach(alias -> provinceNames.put(alias, province.getName()));
+
+                for (District district : province.getDistricts()) {
+                    AdminRegion region = new AdminRegion(province.getBrtcCd(), province.getName(),
+                            district.getSggCd(), district.getName());
+                    regions.add(region);
+                    byName.put(province.getName() + "|" + district.getName(), region);
+                    byKey.put(region.getKey(), region);
+                }
+            }
+
+            log.info("Administrative regions loaded: {} districts", regions.size());
+
+        } catch (Exception e) {
+            log.error("Failed to read administrative region file", e);
+        }
+    }
+
+    public List<AdminRegion> getRegions() {
+        return Collections.unmodifiableList(regions);
+    }
+
+    public AdminRegion findByKey(String key) {
+        return byKey.get(key);
+    }
+
+    /**
+     * Finds a region by province and district names as returned by Kakao
+     * (e.g., "경기도", "수원시 장안구").
+     * @param si province or metropolitan city name
+     * @param gu district name, empty for a province without districts such as Sejong
+     * @return matching region or null if unknown
+     */
+    public AdminRegion find(String si, String gu) {
+        if (si == null) return null;
+
+        String province = provinceNames.get(si.trim());
+        if (province == null) return null;
+
+        // Kakao returns Sejong with an empty district name
+        if (gu == null || gu.isBlank()) return onlyDistrict(province);
+
+        String district = gu.trim();
+        AdminRegion region = byName.get(province + "|" + district);
+        if (region == null && district.contains(" ")) {
+            // Cities with sub-districts (e.g., "수원시 장안구") are registered at city level
+            region = byName.get(province + "|" + district.substring(0, district.indexOf(' ')));
+        }
+        return region;
+    }
+
+    /**
+     * Finds a region from the leading tokens of a road or lot address
+     * (e.g., "서울특별시 중구 을지로 245").
+     * @param address full address
+     * @return matching region or null if unknown
+     */
+    public AdminRegion findByAddress(String address) {
+        if (address == null) return null;
+
+        String[] tokens = address.trim().split("\\s+");
+        if (tokens.length < 2) return null;
+
+        // Sejong has no district token in its addresses
+        AdminRegion region = find(tokens[0], tokens[1]);
+        if (region == null) {
+            String province = provinceNames.get(tokens[0]);
+            region = province == null ? null : onlyDistrict(province);
+        }
+        return region;
+    }
+
+    // The single district of a province without districts (Sejong), null for any other province
+    private AdminRegion onlyDistrict(String province) {
+        List<AdminRegion> districts = regions.stream()
+                .filter(r -> r.getSi().equals(province))
+                .toList();
+        return districts.size() == 1 ? districts.get(0) : null;
+    }
+
+    // JSON structure of a province entry
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Province {
+        private String brtcCd;
+        private String name;
+        private List<String> aliases = List.of();
+        private List<District> districts = List.of();
+    }
+
+    // JSON structure of a district entry
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class District {
+        private String sggCd;
+        private String name;
+    }
+}
@@ -0,0 +1,174 @@
+package me.seungeun.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed local store for the audio clips generated by the model server.
+ *
+ * Base64 audio (plain or as a data: URI) is decoded and written once to a file named
+ * after the SHA-256 of its bytes, and replaced in responses by a short URL served by
+ * AudioController. The same clip always gets the same URL, so files never change and
+ * can be cached by clients indefinitely. Values that are not base64 audio, such as
+ * URLs, are left as they are.
+ */
+@Slf4j
+@Component
+public class AudioBlobStore {
+
+    // Stored file name: SHA-256 hex and the extension of the audio format
+    private static final Pattern NAME = Pattern.compile("([0-9a-f]{64})\\.(mp3|wav|ogg|flac|webm|m4a)");
+
+    // Extension -> content type of the stored formats
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "mp3", "audio/mpeg",
+            "wav", "audio/wav",
+            "ogg", "audio/ogg",
+            "flac", "audio/flac",
+            "webm", "audio/webm",
+            "m4a", "audio/mp4"
+    );
+
+    // Whether audio is moved out of the responses; when off, responses keep the inline base64
+    @Value("${audio.store.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audio.store.path:data/audio}")
+    private String path;
+
+    // Path under which AudioController serves the stored files
+    @Value("${audio.store.url-prefix:/api/audio/}")
+    private String urlPrefix;
+
+    /**
+     * Stores a base64 audio clip and returns its URL.
+     * @param audio base64 audio, optionally as a data: URI
+     * @return URL of the stored clip, or the given value if it is not base64 audio of a known
+     *         format or cannot be stored
+     */
+    public String store(String audio) {
+        if (!enabled || audio == null || audio.isBlank()) return audio;
+
+        String declaredType = null;
+        String base64 = audio;
+        if (audio.startsWith("data:")) {
+            int comma = audio.indexOf(',');
+            if (comma < 0 || !audio.substring(0, comma).endsWith(";base64")) return audio;
+            declaredType = audio.substring(5, audio.indexOf(';'));
+            base64 = audio.substring(comma + 1);
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(base64.replaceAll("\\s", ""));
+        } catch (IllegalArgumentException e) {
+            return audio;
+        }
+        String extension = extension(bytes, declaredType);
+        if (extension == null) return audio;
+
+        String name = hash(bytes) + "." + extension;
+        Path target = Paths.get(path, name);
+        try {
+            // Same name means same bytes, so an existing file is never rewritten
+            if (!Files.exists(target)) {
+                Path dir = target.toAbsolutePath().getParent();
+                Files.createDirectories(dir);
+                Path temp = Files.createTempFile(dir, name, ".tmp");
+                try {
+                    Files.write(temp, bytes);
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+            return urlPrefix + name;
+
+        } catch (IOException e) {
+            log.warn("Failed to store audio {}, keeping it inline: {}", name, e.getMessage());
+            return audio;
+        }
+    }
+
+    /**
+     * Finds a stored clip by the file name of its URL.
+     * @param name file name, "hash.extension"
+     * @return stored clip, or empty if the name is malformed or not stored
+     */
+    public Optional<AudioBlob> find(String name) {
+        var matcher = NAME.matcher(name);
+        if (!matcher.matches()) return Optional.empty();
+
+        Path file = Paths.get(path, name);
+        try {
+            return Optional.of(new AudioBlob(file, matcher.group(1), CONTENT_TYPES.get(matcher.group(2)), Files.size(file)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Audio format from the magic bytes, falling back to the type declared in the data: URI; null if unknown
+    private static String extension(byte[] bytes, String declaredType) {
+        if (startsWith(bytes, "ID3") || (bytes.length > 1 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xE0) == 0xE0)) {
+            return "mp3";
+        }
+        if (startsWith(bytes, "RIFF") && bytes.length > 11 && new String(bytes, 8, 4, StandardCharsets.US_ASCII).equals("WAVE")) {
+            return "wav";
+        }
+        if (startsWith(bytes, "OggS")) return "ogg";
+        if (startsWith(bytes, "fLaC")) return "flac";
+        if (bytes.length > 3 && (bytes[0] & 0xFF) == 0x1A && (bytes[1] & 0xFF) == 0x45
+                && (bytes[2] & 0xFF) == 0xDF && (bytes[3] & 0xFF) == 0xA3) {
+            return "webm";
+        }
+        if (bytes.length > 7 && new String(bytes, 4, 4, StandardCharsets.US_ASCII).equals("ftyp")) return "m4a";
+
+        if (declaredType != null) {
+            for (Map.Entry<String, String> entry : CONTENT_TYPES.entrySet()) {
+                if (entry.getValue().equalsIgnoreCase(declaredType)) return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] bytes, String magic) {
+        if (bytes.length < magic.length()) return false;
+        for (int i = 0; i < magic.length(); i++) {
+            if (bytes[i] != magic.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Stored audio clip.
+     * @param path file of the clip
+     * @param hash SHA-256 hex of the bytes, usable as an ETag
+     * @param contentType media type of the format
+     * @param size length in bytes
+     */
+    public record AudioBlob(Path path, String hash, String contentType, long size) {
+    }
+}
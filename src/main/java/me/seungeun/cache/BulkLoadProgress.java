@@ -0,0 +1,117 @@
+package me.seungeun.cache;
+
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.dto.AdminRegion;
+import me.seungeun.dto.BulkLoadStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of one bulk load over a set of regions.
+ * Keeps the next page and the records fetched so far for every region,
+ * so an interrupted or partly failed run can be resumed where it stopped.
+ */
+public class BulkLoadProgress {
+
+    public enum State { PENDING, RUNNING, DONE, FAILED }
+
+    private final String runId = UUID.randomUUID().toString();
+    private final Instant startedAt = Instant.now();
+    private volatile Instant finishedAt;
+
+    private final Map<String, RegionProgress> regions = new LinkedHashMap<>();
+
+    final LongAdder fetchedPages = new LongAdder();
+    final LongAdder fetchedRecords = new LongAdder();
+    final LongAdder retries = new LongAdder();
+
+    public BulkLoadProgress(List<AdminRegion> regions) {
+        this(regions, null);
+    }
+
+    /**
+     * Starts a run over the given regions together with the regions the previous run left
+     * unfinished. Those are retried even if they are not in the list, from the page where
+     * they stopped.
+     * @param regions regions to load
+     * @param previous previous run, may be null
+     */
+    public BulkLoadProgress(List<AdminRegion> regions, BulkLoadProgress previous) {
+        if (previous != null) {
+            for (RegionProgress region : previous.remaining()) {
+                region.state = State.PENDING;
+                this.regions.put(region.region.getKey(), region);
+            }
+        }
+        regions.forEach(region -> this.regions.putIfAbsent(region.getKey(), new RegionProgress(region)));
+    }
+
+    public boolean isEmpty() {
+        return regions.isEmpty();
+    }
+
+    // Regions that still have pages to fetch (pending, interrupted or failed)
+    synchronized List<RegionProgress> remaining() {
+        finishedAt = null;
+        return regions.values().stream()
+                .filter(region -> region.state != State.DONE)
+                .toList();
+    }
+
+    synchronized void finish() {
+        finishedAt = Instant.now();
+    }
+
+    public boolean isComplete() {
+        return finishedAt != null && regions.values().stream().allMatch(region -> region.state == State.DONE);
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    // Regions whose last attempt failed
+    public List<AdminRegion> getFailedRegions() {
+        return regions.values().stream()
+                .filter(region -> region.state == State.FAILED)
+                .map(region -> region.region)
+                .toList();
+    }
+
+    public BulkLoadStatus toStatus() {
+        Map<State, Long> counts = new LinkedHashMap<>();
+        regions.values().forEach(region -> counts.merge(region.state, 1L, Long::sum));
+        return BulkLoadStatus.builder()
+                .runId(runId)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .totalRegions(regions.size())
+                .completedRegions(counts.getOrDefault(State.DONE, 0L))
+                .failedRegions(counts.getOrDefault(State.FAILED, 0L))
+                .fetchedPages(fetchedPages.sum())
+                .fetchedRecords(fetchedRecords.sum())
+                .retries(retries.sum())
+                .build();
+    }
+
+    /**
+     * Paging state of one region. Only one loader thread works on a region at a time.
+     */
+    static class RegionProgress {
+        final AdminRegion region;
+        final List<VaccineInfo> records = new ArrayList<>();
+        volatile int nextPage = 1;
+        volatile State state = State.PENDING;
+        volatile String error;
+
+        RegionProgress(AdminRegion region) {
+            this.region = region;
+        }
+    }
+}
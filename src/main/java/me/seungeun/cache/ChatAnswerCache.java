@@ -0,0 +1,340 @@
+package me.seungeun.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import me.seungeun.dto.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of model answers to free chat questions, keyed by (language, normalized question).
+ *
+ * Questions are normalized (Unicode NFKC, lowercase, punctuation and repeated spaces
+ * removed) before the exact lookup. When that misses, a near-duplicate layer looks for
+ * an earlier question of the same language with a similar wording: character 3-grams
+ * of every cached question are summarized with MinHash and indexed with LSH bands, and
+ * the candidates sharing a band are compared by exact 3-gram Jaccard similarity.
+ * Character n-grams need no tokenizer, so Korean, Japanese and Chinese questions are
+ * compared the same way as English ones.
+ *
+ * A few characters can turn a question into a medically different one ("hepatitis A" and
+ * "hepatitis B", "if I am pregnant" and "if I am not pregnant"), so near-duplicates must
+ * also agree on their numbers, their single-character words and their negations. The
+ * near-duplicate layer is off by default.
+ */
+@Component
+public class ChatAnswerCache {
+
+    // MinHash signature: BANDS bands of ROWS hash values each
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+
+    // Shorter questions have too few 3-grams to compare reliably and use the exact layer only
+    private static final int MIN_SIMILAR_LENGTH = 8;
+
+    // Words that reverse a question; "can't" and "don't" are covered as their "t" is a one-letter word
+    private static final Set<String> NEGATIONS = Set.of(
+            "no", "not", "never", "none", "nor", "without", "cannot", "neither", "안");
+
+    // Korean negation stems, matched anywhere in a word (않아도, 없나요, 아니요, 못)
+    private static final List<String> KOREAN_NEGATIONS = List.of("않", "없", "아니", "못");
+
+    // Seeds of the MinHash functions, fixed so signatures are stable
+    private static final long[] SEEDS = new long[BANDS * ROWS];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SEEDS.length; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    // Maximum number of cached answers
+    @Value("${chat.answer-cache.max-size:10000}")
+    private long maxSize;
+
+    // Lifetime of a cached answer, so answers follow changes of the model
+    @Value("${chat.answer-cache.ttl:PT24H}")
+    private Duration ttl;
+
+    // Whether a miss of the exact layer looks for a similar earlier question
+    @Value("${chat.answer-cache.similarity.enabled:false}")
+    private boolean similarityEnabled;
+
+    // Minimum 3-gram Jaccard similarity for a near-duplicate
+    @Value("${chat.answer-cache.similarity.threshold:0.9}")
+    private double similarityThreshold;
+
+    // "language\u0000normalized question" -> answer with its similarity data
+    private Cache<String, CachedAnswer> answers;
+
+    // LSH band key -> cache keys of the questions in that band bucket
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    // Lookups answered by a similar question after the exact layer missed
+    private final LongAdder similarHits = new LongAdder();
+
+    // Lookups answered by neither layer
+    private final LongAdder misses = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        answers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                // Evicted and expired answers leave the LSH index as well
+                .evictionListener((String key, CachedAnswer answer, RemovalCause cause) -> {
+                    if (key != null && answer != null) {
+                        unindex(key, answer);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Looks up the answer of the question or of a similar earlier question in the same language.
+     * @param question question as typed by the user
+     * @param language requested answer language
+     * @return cached answer, or null if neither layer has one
+     */
+    public String find(String question, String language) {
+        String normalized = normalize(question);
+        if (normalized.isEmpty()) return null;
+
+        CachedAnswer exact = answers.getIfPresent(key(language, normalized));
+        if (exact != null) {
+            return exact.answer();
+        }
+
+        if (similarityEnabled) {
+            CachedAnswer similar = findSimilar(normalized, language);
+            if (similar != null) {
+                similarHits.increment();
+                return similar.answer();
+            }
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a successful answer. Callers must not pass failure messages.
+     * @param question question as typed by the user
+     * @param language requested answer language
+     * @param answer answer returned by the model
+     */
+    public void put(String question, String language, String answer) {
+        String normalized = normalize(question);
+        if (normalized.isEmpty() || answer == null || answer.isBlank()) return;
+
+        String key = key(language, normalized);
+        int[] shingles = shingles(normalized);
+        long[] bandKeys = similarityEnabled && shingles.length > 0
+                ? bandKeys(language, signature(shingles))
+                : new long[0];
+
+        CachedAnswer cached = new CachedAnswer(answer, shingles, bandKeys, guard(normalized));
+        answers.put(key, cached);
+        for (long bandKey : bandKeys) {
+            buckets.computeIfAbsent(bandKey, k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    public List<CacheStats> getCacheStats() {
+        long similar = similarHits.sum();
+        long missCount = misses.sum();
+        return List.of(
+                CacheStats.of("chat-answers", answers.estimatedSize(), answers.stats()),
+                CacheStats.builder()
+                        .name("chat-answers-similar")
+                        .size(answers.estimatedSize())
+                        .hitCount(similar)
+                        .missCount(missCount)
+                        .hitRate(similar + missCount == 0 ? 0.0 : (double) similar / (similar + missCount))
+                        .build()
+        );
+    }
+
+    // Best cached question sharing an LSH band and passing the similarity threshold
+    private CachedAnswer findSimilar(String normalized, String language) {
+        int[] shingles = shingles(normalized);
+        if (compactLength(normalized) < MIN_SIMILAR_LENGTH || shingles.length == 0) return null;
+
+        String guard = guard(normalized);
+        String prefix = key(language, "");
+        CachedAnswer best = null;
+        double bestSimilarity = similarityThreshold;
+        Set<String> seen = new HashSet<>();
+
+        for (long bandKey : bandKeys(language, signature(shingles))) {
+            Set<String> bucket = buckets.get(bandKey);
+            if (bucket == null) continue;
+
+            for (String candidateKey : bucket) {
+                if (!candidateKey.startsWith(prefix) || !seen.add(candidateKey)) continue;
+
+                // Read without counting, so the exact layer's hit rate stays meaningful
+                CachedAnswer candidate = answers.asMap().get(candidateKey);
+                if (candidate == null || !candidate.guard().equals(guard)) continue;
+
+                double similarity = jaccard(shingles, candidate.shingles());
+                if (similarity >= bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void unindex(String key, CachedAnswer answer) {
+        for (long bandKey : answer.bandKeys()) {
+            buckets.computeIfPresent(bandKey, (k, bucket) -> {
+                bucket.remove(key);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    /**
+     * Normalizes a question: NFKC, lowercase, every run of characters other than letters
+     * and digits replaced by one space, trimmed.
+     * @param question raw question
+     * @return normalized question, empty string for null
+     */
+    public static String normalize(String question) {
+        if (question == null) return "";
+        String text = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isLetterOrDigit(cp)) {
+                if (space && sb.length() > 0) sb.append(' ');
+                sb.appendCodePoint(cp);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    // Sorted distinct hashes of the character 3-grams, spaces ignored since spacing varies a lot in Korean
+    private static int[] shingles(String normalized) {
+        String compact = normalized.replace(" ", "");
+        if (compact.length() < 3) return new int[0];
+
+        int[] grams = new int[compact.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = compact.substring(i, i + 3).hashCode();
+        }
+        return Arrays.stream(grams).sorted().distinct().toArray();
+    }
+
+    private static int compactLength(String normalized) {
+        return normalized.length() - (int) normalized.chars().filter(c -> c == ' ').count();
+    }
+
+    private static long[] signature(int[] shingles) {
+        long[] signature = new long[SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < SEEDS.length; i++) {
+                long h = mix(shingle ^ SEEDS[i]);
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    // One key per band, combining the language and the band's hash values
+    private static long[] bandKeys(String language, long[] signature) {
+        long[] keys = new long[BANDS];
+        long languageHash = language != null ? language.hashCode() : 0;
+        for (int band = 0; band < BANDS; band++) {
+            long h = mix(languageHash * 31 + band);
+            for (int row = 0; row < ROWS; row++) {
+                h = mix(h ^ signature[band * ROWS + row]);
+            }
+            keys[band] = h;
+        }
+        return keys;
+    }
+
+    // Jaccard similarity of two sorted distinct arrays
+    private static double jaccard(int[] a, int[] b) {
+        int i = 0, j = 0, common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = a.length + b.length - common;
+        return union == 0 ? 0.0 : (double) common / union;
+    }
+
+    // What near-duplicates must agree on: the numbers in order, then the sorted one-letter words and negations.
+    // One-syllable Korean words are left out, as they come and go with spacing (같은 날, 같은날)
+    private static String guard(String normalized) {
+        Set<String> words = new TreeSet<>();
+        for (String word : normalized.split(" ")) {
+            boolean oneLetter = word.codePointCount(0, word.length()) == 1
+                    && Character.UnicodeScript.of(word.codePointAt(0)) != Character.UnicodeScript.HANGUL;
+            if (oneLetter || NEGATIONS.contains(word)
+                    || KOREAN_NEGATIONS.stream().anyMatch(word::contains)) {
+                words.add(word);
+            }
+        }
+        return digits(normalized) + "|" + String.join(" ", words);
+    }
+
+    // Digits of the question in order
+    private static String digits(String normalized) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isDigit(c)) sb.append(c);
+            else if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') sb.append(' ');
+        }
+        return sb.toString().trim();
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String key(String language, String normalized) {
+        return language + "\u0000" + normalized;
+    }
+
+    // Cached answer with the 3-grams of its question, its LSH band keys and its guard
+    private record CachedAnswer(String answer, int[] shingles, long[] bandKeys, String guard) {
+    }
+}
@@ -0,0 +1,81 @@
+package me.seungeun.cache;
+
+/**
+ * Geohash encoding of coordinates into base32 cell names.
+ * Precision 5 gives cells of about 4.9 km x 4.9 km, precision 6 about 1.2 km x 0.6 km.
+ */
+public final class Geohash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private Geohash() {
+    }
+
+    /**
+     * Encodes a coordinate.
+     * @param lat latitude
+     * @param lng longitude
+     * @param precision number of characters (1 to 12)
+     * @return geohash of the cell containing the coordinate
+     */
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean lngBit = true;
+        int bits = 0, value = 0;
+
+        while (hash.length() < precision) {
+            if (lngBit) {
+                double mid = (minLng + maxLng) / 2;
+                value = (value << 1) | (lng >= mid ? 1 : 0);
+                if (lng >= mid) minLng = mid; else maxLng = mid;
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                value = (value << 1) | (lat >= mid ? 1 : 0);
+                if (lat >= mid) minLat = mid; else maxLat = mid;
+            }
+            lngBit = !lngBit;
+
+            if (++bits == 5) {
+                hash.append(BASE32[value]);
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Decodes a geohash to the center of its cell.
+     * @param hash geohash
+     * @return {latitude, longitude} of the cell center
+     * @throws IllegalArgumentException if the hash contains an invalid character
+     */
+    public static double[] center(String hash) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        boolean lngBit = true;
+
+        for (int i = 0; i < hash.length(); i++) {
+            int value = indexOf(hash.charAt(i));
+            for (int bit = 4; bit >= 0; bit--) {
+                boolean set = ((value >> bit) & 1) == 1;
+                if (lngBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (set) minLng = mid; else maxLng = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) minLat = mid; else maxLat = mid;
+                }
+                lngBit = !lngBit;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLng + maxLng) / 2};
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) return i;
+        }
+        throw new IllegalArgumentException("Invalid geohash character: " + c);
+    }
+}
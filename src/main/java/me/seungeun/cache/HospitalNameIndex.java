@@ -0,0 +1,300 @@
+package me.seungeun.cache;
+
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable fuzzy-match index over normalized hospital names.
+ *
+ * Names are split into padded character bigrams and kept in posting lists, so a lookup
+ * only touches names that share grams with the query. The best few candidates by
+ * gram overlap are then verified with a bounded Levenshtein distance.
+ * Built once per cache load and safe to share between request threads.
+ */
+public final class HospitalNameIndex {
+
+    // Padding characters marking the start and end of a name
+    private static final char START = '\u0002';
+    private static final char END = '\u0003';
+
+    // Grams that appear in more than this fraction of names (e.g. "병원", "의원") are not used to find candidates
+    private static final double STOP_GRAM_RATIO = 0.05;
+
+    // Maximum number of candidates verified with the edit distance per lookup
+    private static final int MAX_VERIFIED_CANDIDATES = 64;
+
+    // Maximum accepted edit distance relative to the longer of the two names
+    private static final double MAX_DISTANCE_RATIO = 0.5;
+
+    private static final HospitalNameIndex EMPTY = build(List.of());
+
+    private final String[] names;                 // normalized names, indexed by document id
+    private final VaccineInfo[] infos;            // cached info, indexed by document id
+    private final Map<String, Integer> exact;     // normalized name -> document id
+    private final Map<Integer, int[]> postings;   // packed bigram -> sorted document ids
+    private final int stopGramThreshold;
+
+    private HospitalNameIndex(String[] names, VaccineInfo[] infos, Map<String, Integer> exact,
+                              Map<Integer, int[]> postings) {
+        this.names = names;
+        this.infos = infos;
+        this.exact = exact;
+        this.postings = postings;
+        this.stopGramThreshold = Math.max(1, (int) (names.length * STOP_GRAM_RATIO));
+    }
+
+    public static HospitalNameIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds an index over the given hospitals. Entries with the same normalized name
+     * keep the last one, matching the previous map-based cache.
+     * @param vaccineInfos hospitals to index
+     * @return immutable index
+     */
+    public static HospitalNameIndex build(Collection<VaccineInfo> vaccineInfos) {
+        Map<String, VaccineInfo> byName = new HashMap<>();
+        for (VaccineInfo info : vaccineInfos) {
+            String name = normalize(info.getCenterName());
+            if (!name.isEmpty()) {
+                byName.put(name, info);
+            }
+        }
+
+        String[] names = new String[byName.size()];
+        VaccineInfo[] infos = new VaccineInfo[byName.size()];
+        Map<String, Integer> exact = new HashMap<>(byName.size() * 2);
+
+        // Every (gram, document) pair packed into a long, so posting lists come out of one primitive sort
+        long[] pairs = new long[16];
+        int pairCount = 0;
+        int id = 0;
+        for (Map.Entry<String, VaccineInfo> entry : byName.entrySet()) {
+            names[id] = entry.getKey();
+            infos[id] = entry.getValue();
+            exact.put(entry.getKey(), id);
+            for (int gram : distinctGrams(entry.getKey())) {
+                if (pairCount == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, pairs.length * 2);
+                }
+                pairs[pairCount++] = ((long) gram << 32) | id;
+            }
+            id++;
+        }
+        Arrays.sort(pairs, 0, pairCount);
+
+        // Runs of the same gram become its posting list, already sorted by document id
+        Map<Integer, int[]> postings = new HashMap<>();
+        for (int start = 0; start < pairCount; ) {
+            int gram = (int) (pairs[start] >>> 32);
+            int end = start;
+            while (end < pairCount && (int) (pairs[end] >>> 32) == gram) {
+                end++;
+            }
+            int[] ids = new int[end - start];
+            for (int i = start; i < end; i++) {
+                ids[i - start] = (int) pairs[i];
+            }
+            postings.put(gram, ids);
+            start = end;
+        }
+
+        return new HospitalNameIndex(names, infos, exact, postings);
+    }
+
+    /**
+     * Normalizes a hospital name: lowercase with all whitespace removed.
+     * @param name raw name
+     * @return normalized name, empty string for null
+     */
+    public static String normalize(String name) {
+        if (name == null) return "";
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Finds the cached hospital whose name is closest to the given name.
+     * @param hospitalName hospital name (normalized or not)
+     * @return best match with its distance, or null if no name is close enough
+     */
+    public Match findBestMatch(String hospitalName) {
+        String query = normalize(hospitalName);
+        if (query.isEmpty() || names.length == 0) return null;
+
+        Integer exactId = exact.get(query);
+        if (exactId != null) {
+            return new Match(infos[exactId], names[exactId], 0);
+        }
+
+        int[] queryGrams = distinctGrams(query);
+        int[] candidates = topCandidates(queryGrams);
+
+        int bestId = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int candidate : candidates) {
+            String name = names[candidate];
+            int limit = Math.min(bestDistance - 1, maxDistance(query, name));
+            if (limit < 0) continue;
+            int distance = boundedLevenshtein(query, name, limit);
+            if (distance <= limit) {
+                bestId = candidate;
+                bestDistance = distance;
+            }
+        }
+
+        return bestId < 0 ? null : new Match(infos[bestId], names[bestId], bestDistance);
+    }
+
+    /**
+     * Finds the closest name among a few given hospitals, e.g. those around a coordinate,
+     * with the same distance limit as an index lookup. The first of equally close names wins.
+     * @param hospitalName hospital name (normalized or not)
+     * @param candidates hospitals to compare, in order of preference
+     * @return best match with its distance, or null if no name is close enough
+     */
+    public static Match findBestMatchAmong(String hospitalName, List<VaccineInfo> candidates) {
+        String query = normalize(hospitalName);
+        if (query.isEmpty()) return null;
+
+        Match best = null;
+        for (VaccineInfo candidate : candidates) {
+            String name = normalize(candidate.getCenterName());
+            int limit = Math.min(best != null ? best.distance() - 1 : Integer.MAX_VALUE, maxDistance(query, name));
+            if (name.isEmpty() || limit < 0) continue;
+            int distance = boundedLevenshtein(query, name, limit);
+            if (distance <= limit) {
+                best = new Match(candidate, name, distance);
+                if (distance == 0) break;
+            }
+        }
+        return best;
+    }
+
+    // Collects the names with the largest gram overlap with the query
+    private int[] topCandidates(int[] queryGrams) {
+        List<int[]> lists = new ArrayList<>(queryGrams.length);
+        List<int[]> stopLists = new ArrayList<>();
+        for (int gram : queryGrams) {
+            int[] ids = postings.get(gram);
+            if (ids == null) continue;
+            (ids.length > stopGramThreshold ? stopLists : lists).add(ids);
+        }
+        // Names made only of very common grams still need candidates
+        if (lists.isEmpty()) {
+            lists = stopLists;
+        }
+
+        Map<Integer, Integer> overlap = new HashMap<>();
+        for (int[] ids : lists) {
+            for (int id : ids) {
+                overlap.merge(id, 1, Integer::sum);
+            }
+        }
+
+        PriorityQueue<int[]> top = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+        overlap.forEach((id, count) -> {
+            if (top.size() < MAX_VERIFIED_CANDIDATES) {
+                top.add(new int[]{id, count});
+            } else if (top.peek()[1] < count) {
+                top.poll();
+                top.add(new int[]{id, count});
+            }
+        });
+
+        // Verify highest overlap first so the distance bound tightens quickly
+        return top.stream()
+                .sorted((a, b) -> Integer.compare(b[1], a[1]))
+                .mapToInt(entry -> entry[0])
+                .toArray();
+    }
+
+    private static int maxDistance(String a, String b) {
+        return (int) (Math.max(a.length(), b.length()) * MAX_DISTANCE_RATIO);
+    }
+
+    // Packs every padded bigram of the name into an int, duplicates removed
+    private static int[] distinctGrams(String name) {
+        int[] grams = new int[name.length() + 1];
+        int count = 0;
+        char prev = START;
+        for (int i = 0; i <= name.length(); i++) {
+            char c = i < name.length() ? name.charAt(i) : END;
+            int gram = (prev << 16) | c;
+            prev = c;
+
+            // Names are short, so a linear scan is cheaper than a hash set
+            boolean seen = false;
+            for (int j = 0; j < count && !seen; j++) {
+                seen = grams[j] == gram;
+            }
+            if (!seen) {
+                grams[count++] = gram;
+            }
+        }
+        return count == grams.length ? grams : Arrays.copyOf(grams, count);
+    }
+
+    /**
+     * Levenshtein distance that stops as soon as the result is known to exceed the limit.
+     * @param a first string
+     * @param b second string
+     * @param limit maximum distance of interest
+     * @return edit distance, or limit + 1 if it is larger than limit
+     */
+    static int boundedLevenshtein(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) return limit + 1;
+
+        int[] costs = new int[b.length() + 1];
+        for (int j = 0; j < costs.length; j++)
+            costs[j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            costs[0] = i;
+            int nw = i - 1;
+            int rowMin = costs[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
+                        a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
+                nw = costs[j];
+                costs[j] = cj;
+                rowMin = Math.min(rowMin, cj);
+            }
+            if (rowMin > limit) return limit + 1;
+        }
+
+        return costs[b.length()];
+    }
+
+    /**
+     * Result of a fuzzy lookup.
+     * @param info matched hospital
+     * @param matchedName normalized name of the matched hospital
+     * @param distance edit distance between the query and the matched name
+     */
+    public record Match(VaccineInfo info, String matchedName, int distance) {
+
+        // Similarity in [0, 1], where 1 is an exact match
+        public double score() {
+            int length = Math.max(matchedName.length(), 1);
+            return 1.0 - (double) distance / length;
+        }
+    }
+}
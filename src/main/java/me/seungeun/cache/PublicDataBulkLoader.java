@@ -0,0 +1,226 @@
+package me.seungeun.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.seungeun.cache.BulkLoadProgress.RegionProgress;
+import me.seungeun.cache.BulkLoadProgress.State;
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineApiResponse;
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.dto.AdminRegion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Loads vaccine hospitals from the public data portal (orglist3/getOrgList3).
+ * Walks every page of every region, loads several regions at once with a bounded
+ * number of threads, backs off on rate limits and server errors, and records its
+ * progress so an interrupted run can be resumed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicDataBulkLoader {
+
+    private final RestTemplate restTemplate;
+
+    // API key for public data portal, read from application.yml
+    @Value("${publicdata.service.key}")
+    private String serviceKey;
+
+    // Endpoint of the hospital list API; can point to a local stub server
+    @Value("${publicdata.api.url:https://apis.data.go.kr/1790387/orglist3/getOrgList3}")
+    private String apiUrl;
+
+    // Rows requested per page
+    @Value("${publicdata.bulk.page-size:100}")
+    private int pageSize;
+
+    // Number of regions loaded at the same time
+    @Value("${publicdata.bulk.concurrency:8}")
+    private int concurrency;
+
+    // Attempts per page before the region is marked as failed
+    @Value("${publicdata.bulk.max-attempts:5}")
+    private int maxAttempts;
+
+    // First retry delay in milliseconds, doubled on every further attempt
+    @Value("${publicdata.bulk.backoff-ms:500}")
+    private long backoffMillis;
+
+    // Upper bound for a single retry delay in milliseconds
+    @Value("${publicdata.bulk.max-backoff-ms:30000}")
+    private long maxBackoffMillis;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Fetches every page of the remaining regions of a run.
+     * Each region is handed to the callback as soon as all its pages are fetched.
+     * Calling it again with the same progress resumes failed or interrupted regions
+     * from the page where they stopped.
+     * @param progress run to execute or resume
+     * @param onRegionLoaded callback receiving a completed region and all its records
+     * @return the same progress object
+     */
+    public BulkLoadProgress run(BulkLoadProgress progress, BiConsumer<AdminRegion, List<VaccineInfo>> onRegionLoaded) {
+        List<RegionProgress> remaining = progress.remaining();
+        if (remaining.isEmpty()) {
+            progress.finish();
+            return progress;
+        }
+
+        log.info("Bulk load {} started for {} regions", progress.getRunId(), remaining.size());
+        long started = System.currentTimeMillis();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "publicdata-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (RegionProgress region : remaining) {
+                futures.add(executor.submit(() -> loadRegion(region, progress, onRegionLoaded)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Bulk load {} interrupted; it can be resumed", progress.getRunId());
+        } catch (ExecutionException e) {
+            log.error("Bulk load {} task failed", progress.getRunId(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            progress.finish();
+        }
+
+        log.info("Bulk load {} finished in {} ms: {}", progress.getRunId(),
+                System.currentTimeMillis() - started, progress.toStatus());
+        return progress;
+    }
+
+    /**
+     * Fetches every page of a single region in the calling thread.
+     * @param region administrative region
+     * @return all records of the region
+     * @throws Exception if a page still fails after all retries
+     */
+    public List<VaccineInfo> fetchRegion(AdminRegion region) throws Exception {
+        BulkLoadProgress progress = new BulkLoadProgress(List.of(region));
+        RegionProgress regionProgress = progress.remaining().get(0);
+        fetchRemainingPages(regionProgress, progress);
+        return regionProgress.records;
+    }
+
+    private void loadRegion(RegionProgress region, BulkLoadProgress progress,
+                            BiConsumer<AdminRegion, List<VaccineInfo>> onRegionLoaded) {
+        region.state = State.RUNNING;
+        try {
+            fetchRemainingPages(region, progress);
+            region.state = State.DONE;
+            region.error = null;
+            onRegionLoaded.accept(region.region, List.copyOf(region.records));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            region.state = State.PENDING;
+        } catch (Exception e) {
+            region.state = State.FAILED;
+            region.error = e.getMessage();
+            log.error("Failed to load region {} {} at page {}",
+                    region.region.getSi(), region.region.getGu(), region.nextPage, e);
+        }
+    }
+
+    // Fetches pages starting at the region's next page until a short or empty page is returned
+    private void fetchRemainingPages(RegionProgress region, BulkLoadProgress progress) throws Exception {
+        while (true) {
+            VaccineApiResponse page = fetchPage(region.region, region.nextPage, progress);
+            List<VaccineInfo> data = page.getData() != null ? page.getData() : List.of();
+
+            region.records.addAll(data);
+            region.nextPage++;
+            progress.fetchedPages.increment();
+            progress.fetchedRecords.add(data.size());
+
+            boolean lastPage = data.size() < pageSize
+                    || (page.getTotalCount() != null && region.records.size() >= page.getTotalCount());
+            if (lastPage) return;
+        }
+    }
+
+    // Requests one page, retrying with exponential backoff on rate limits and transient errors
+    private VaccineApiResponse fetchPage(AdminRegion region, int pageNo, BulkLoadProgress progress) throws Exception {
+        String url = UriComponentsBuilder
+                .fromHttpUrl(apiUrl)
+                .queryParam("serviceKey", serviceKey)
+                .queryParam("numOfRows", pageSize)
+                .queryParam("pageNo", pageNo)
+                .queryParam("returnType", "json")
+                .queryParam("brtcCd", region.getBrtcCd())
+                .queryParam("sggCd", region.getSggCd())
+                .toUriString();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                String responseStr = restTemplate.getForObject(url, String.class);
+
+                // Guard against XML response (API key, parameters or quota issues)
+                if (responseStr != null && responseStr.trim().startsWith("<")) {
+                    if (responseStr.contains("LIMITED_NUMBER_OF_SERVICE_REQUESTS")) {
+                        throw new RateLimitedException();
+                    }
+                    log.debug("XML response: {}", responseStr);
+                    throw new IllegalStateException("API response is XML, not JSON. Check API key or request parameters.");
+                }
+
+                return responseStr == null
+                        ? new VaccineApiResponse()
+                        : objectMapper.readValue(responseStr, VaccineApiResponse.class);
+
+            } catch (HttpClientErrorException.TooManyRequests | HttpServerErrorException
+                     | ResourceAccessException | RateLimitedException e) {
+                if (attempt >= maxAttempts) throw e;
+
+                long delay = backoffDelay(attempt);
+                progress.retries.increment();
+                log.warn("Request for {} {} page {} failed ({}), retrying in {} ms",
+                        region.getSi(), region.getGu(), pageNo, e.getMessage(), delay);
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    // Exponential backoff with full jitter
+    private long backoffDelay(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    // Raised when the portal reports that the request quota is exceeded
+    static class RateLimitedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        RateLimitedException() {
+            super("Request quota exceeded");
+        }
+    }
+}
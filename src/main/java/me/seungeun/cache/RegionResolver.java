@@ -0,0 +1,72 @@
+package me.seungeun.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.seungeun.client.KakaoMapClient;
+import me.seungeun.dto.AdminRegion;
+import me.seungeun.dto.RegionLookupStats;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Maps a coordinate to its administrative district.
+ *
+ * District boundaries are not bundled, so every lookup goes to the Kakao
+ * reverse-geocoding API.
+ * KakaoMapClient caches its answers per ~100 m cell and shares in-flight calls, so
+ * repeated lookups around the same place cost one Kakao call.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionResolver {
+
+    private final AdminRegionRegistry regionRegistry;
+
+    // KakaoMapClient with the per-cell region cache
+    private final KakaoMapClient kakaoMapClient;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Returns the administrative district containing the coordinate.
+     * @param lat latitude coordinate
+     * @param lng longitude coordinate
+     * @return district, or null if Kakao returns a district that is not in the region table
+     * @throws RuntimeException if the Kakao lookup fails
+     */
+    public AdminRegion resolve(double lat, double lng) {
+        return resolveAsync(lat, lng).block();
+    }
+
+    /**
+     * Non-blocking variant of resolve; waits only when the coordinate's cell is not cached yet.
+     * @param lat latitude coordinate
+     * @param lng longitude coordinate
+     * @return district, empty if Kakao returns a district that is not in the region table,
+     *         or an error if the Kakao lookup fails
+     */
+    public Mono<AdminRegion> resolveAsync(double lat, double lng) {
+        lookups.increment();
+        return kakaoMapClient.getRegionInfoAsync(lat, lng)
+                .doOnError(e -> failures.increment())
+                .flatMap(regionInfo -> {
+                    AdminRegion region = regionRegistry.find(regionInfo.getSi(), regionInfo.getGu());
+                    if (region == null) {
+                        failures.increment();
+                        log.warn("Failed to map administrative codes: {}, {}", regionInfo.getSi(), regionInfo.getGu());
+                    }
+                    return Mono.justOrEmpty(region);
+                });
+    }
+
+    public RegionLookupStats getStats() {
+        return RegionLookupStats.builder()
+                .lookups(lookups.sum())
+                .failures(failures.sum())
+                .build();
+    }
+}
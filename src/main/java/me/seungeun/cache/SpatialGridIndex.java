@@ -0,0 +1,199 @@
+package me.seungeun.cache;
+
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable grid index over hospital coordinates.
+ *
+ * Points are bucketed into fixed-size lat/lng cells and stored sorted by cell in
+ * primitive arrays; a query only visits the cells overlapping its search circle.
+ * Hospitals without coordinates (0, 0) are left out.
+ */
+public final class SpatialGridIndex {
+
+    // Cell size in degrees (about 1.1 km north-south)
+    private static final double CELL_DEGREES = 0.01;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE_LAT = 111_320;
+
+    private static final SpatialGridIndex EMPTY = build(List.of());
+
+    private final long[] cellKeys;     // distinct cell keys, sorted
+    private final int[] cellStarts;    // first point of each cell; cellStarts[cellKeys.length] = point count
+    private final double[] lats;       // point latitudes, grouped by cell
+    private final double[] lngs;       // point longitudes, grouped by cell
+    private final VaccineInfo[] infos; // point hospitals, grouped by cell
+
+    // Bounding box of all points, used to skip whole indexes
+    private final double minLat, maxLat, minLng, maxLng;
+
+    private SpatialGridIndex(long[] cellKeys, int[] cellStarts, double[] lats, double[] lngs, VaccineInfo[] infos) {
+        this.cellKeys = cellKeys;
+        this.cellStarts = cellStarts;
+        this.lats = lats;
+        this.lngs = lngs;
+        this.infos = infos;
+
+        double lo = Double.MAX_VALUE, hi = -Double.MAX_VALUE, left = Double.MAX_VALUE, right = -Double.MAX_VALUE;
+        for (int i = 0; i < lats.length; i++) {
+            lo = Math.min(lo, lats[i]);
+            hi = Math.max(hi, lats[i]);
+            left = Math.min(left, lngs[i]);
+            right = Math.max(right, lngs[i]);
+        }
+        this.minLat = lo;
+        this.maxLat = hi;
+        this.minLng = left;
+        this.maxLng = right;
+    }
+
+    public static SpatialGridIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds an index over the hospitals that have coordinates.
+     * @param vaccineInfos hospitals to index
+     * @return immutable index
+     */
+    public static SpatialGridIndex build(Collection<VaccineInfo> vaccineInfos) {
+        List<VaccineInfo> located = vaccineInfos.stream()
+                .filter(SpatialGridIndex::hasLocation)
+                .sorted(Comparator.comparingLong(info -> cellKey(cellOf(info.getLat()), cellOf(info.getLng()))))
+                .toList();
+
+        int size = located.size();
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        VaccineInfo[] infos = new VaccineInfo[size];
+        long[] keys = new long[size];
+        int[] starts = new int[size + 1];
+        int cells = 0;
+
+        for (int i = 0; i < size; i++) {
+            VaccineInfo info = located.get(i);
+            lats[i] = info.getLat();
+            lngs[i] = info.getLng();
+            infos[i] = info;
+
+            long key = cellKey(cellOf(lats[i]), cellOf(lngs[i]));
+            if (cells == 0 || keys[cells - 1] != key) {
+                keys[cells] = key;
+                starts[cells] = i;
+                cells++;
+            }
+        }
+        starts[cells] = size;
+
+        return new SpatialGridIndex(Arrays.copyOf(keys, cells), Arrays.copyOf(starts, cells + 1), lats, lngs, infos);
+    }
+
+    public int size() {
+        return infos.length;
+    }
+
+    /**
+     * Returns the hospitals within the radius, nearest first.
+     * @param lat latitude of the center
+     * @param lng longitude of the center
+     * @param radiusMeters search radius in meters
+     * @return hospitals with their distance, sorted by distance
+     */
+    public List<Neighbor> withinRadius(double lat, double lng, double radiusMeters) {
+        List<Neighbor> result = new ArrayList<>();
+        if (infos.length == 0 || minDistanceMeters(lat, lng) > radiusMeters) return result;
+
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+
+        int fromLat = cellOf(lat - latDelta), toLat = cellOf(lat + latDelta);
+        int fromLng = cellOf(lng - lngDelta), toLng = cellOf(lng + lngDelta);
+
+        for (int cellLat = fromLat; cellLat <= toLat; cellLat++) {
+            for (int cellLng = fromLng; cellLng <= toLng; cellLng++) {
+                int cell = Arrays.binarySearch(cellKeys, cellKey(cellLat, cellLng));
+                if (cell < 0) continue;
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    double distance = distanceMeters(lat, lng, lats[i], lngs[i]);
+                    if (distance <= radiusMeters) {
+                        result.add(new Neighbor(infos[i], distance));
+                    }
+                }
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+        return result;
+    }
+
+    /**
+     * Returns up to k hospitals nearest to the point within a maximum radius.
+     * The search radius grows from one cell until k hospitals are found.
+     * @param lat latitude of the center
+     * @param lng longitude of the center
+     * @param k maximum number of hospitals
+     * @param maxRadiusMeters upper bound for the search radius
+     * @return nearest hospitals, sorted by distance
+     */
+    public List<Neighbor> nearest(double lat, double lng, int k, double maxRadiusMeters) {
+        if (k <= 0) return List.of();
+        double radius = Math.min(CELL_DEGREES * METERS_PER_DEGREE_LAT, maxRadiusMeters);
+        while (true) {
+            List<Neighbor> found = withinRadius(lat, lng, radius);
+            if (found.size() >= k || radius >= maxRadiusMeters) {
+                return found.size() > k ? found.subList(0, k) : found;
+            }
+            radius = Math.min(radius * 2, maxRadiusMeters);
+        }
+    }
+
+    /**
+     * Lower bound of the distance from the point to any indexed hospital.
+     * @param lat latitude
+     * @param lng longitude
+     * @return distance in meters to the bounding box, 0 if inside; infinity for an empty index
+     */
+    public double minDistanceMeters(double lat, double lng) {
+        if (infos.length == 0) return Double.POSITIVE_INFINITY;
+        double clampedLat = Math.max(minLat, Math.min(maxLat, lat));
+        double clampedLng = Math.max(minLng, Math.min(maxLng, lng));
+        return distanceMeters(lat, lng, clampedLat, clampedLng);
+    }
+
+    // Great-circle distance between two coordinates in meters (haversine)
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static boolean hasLocation(VaccineInfo info) {
+        return (info.getLat() != 0 || info.getLng() != 0)
+                && Math.abs(info.getLat()) <= 90 && Math.abs(info.getLng()) <= 180;
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int cellLat, int cellLng) {
+        return ((long) cellLat << 32) | (cellLng & 0xffffffffL);
+    }
+
+    /**
+     * Hospital found by a spatial query.
+     * @param info hospital
+     * @param distanceMeters distance from the query point in meters
+     */
+    public record Neighbor(VaccineInfo info, double distanceMeters) {
+    }
+}
@@ -0,0 +1,170 @@
+package me.seungeun.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.seungeun.Entity.TranslationMemory;
+import me.seungeun.dto.CacheStats;
+import me.seungeun.repository.TranslationMemoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-tier translation memory keyed by (source text hash, target language).
+ *
+ * A bounded in-process cache answers hot strings; everything ever translated is
+ * also stored in the translation_memory table, so translations survive restarts
+ * when the application datasource is file backed. Database errors are logged and
+ * the memory keeps working in-process only.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationMemoryCache {
+
+    private final TranslationMemoryRepository repository;
+
+    // Maximum number of translations kept in process
+    @Value("${translate.memory.max-size:50000}")
+    private long maxSize;
+
+    // "language:hash" -> translated text
+    private Cache<String, String> memory;
+
+    // Lookups answered by the database after missing in process
+    private final LongAdder diskHits = new LongAdder();
+
+    // Lookups found in neither tier
+    private final LongAdder misses = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        memory = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Looks up stored translations.
+     * @param texts non-blank source texts
+     * @param targetLanguage language code
+     * @return source text -> translation for every text found in either tier
+     */
+    public Map<String, String> getAll(Collection<String> texts, String targetLanguage) {
+        Map<String, String> found = new HashMap<>();
+        Map<String, String> missing = new HashMap<>(); // hash -> source text
+
+        for (String text : texts) {
+            String hash = hash(text);
+            String translated = memory.getIfPresent(key(targetLanguage, hash));
+            if (translated != null) {
+                found.put(text, translated);
+            } else {
+                missing.put(hash, text);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                for (TranslationMemory row : repository.findByTargetLanguageAndSourceHashIn(targetLanguage, missing.keySet())) {
+                    String text = missing.get(row.getSourceHash());
+                    if (text != null && text.equals(row.getSourceText())) {
+                        missing.remove(row.getSourceHash());
+                        found.put(text, row.getTranslatedText());
+                        memory.put(key(targetLanguage, row.getSourceHash()), row.getTranslatedText());
+                        diskHits.increment();
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.warn("Translation memory lookup failed: {}", e.getMessage());
+            }
+        }
+
+        misses.add(missing.size());
+        return found;
+    }
+
+    /**
+     * Stores fresh translations in both tiers.
+     * @param translations source text -> translation, as returned by the translation API
+     * @param targetLanguage language code
+     */
+    public void putAll(Map<String, String> translations, String targetLanguage) {
+        if (translations.isEmpty()) return;
+
+        Instant now = Instant.now();
+        List<TranslationMemory> rows = translations.entrySet().stream()
+                .map(entry -> {
+                    String hash = hash(entry.getKey());
+                    memory.put(key(targetLanguage, hash), entry.getValue());
+                    return TranslationMemory.builder()
+                            .sourceHash(hash)
+                            .targetLanguage(targetLanguage)
+                            .sourceText(entry.getKey())
+                            .translatedText(entry.getValue())
+                            .createdAt(now)
+                            .build();
+                })
+                .toList();
+
+        // Saved one by one, so a row inserted concurrently by another request does not drop the rest
+        for (TranslationMemory row : rows) {
+            try {
+                repository.save(row);
+            } catch (DataAccessException e) {
+                log.warn("Failed to store translation {}: {}", row.getSourceHash(), e.getMessage());
+            }
+        }
+    }
+
+    public List<CacheStats> getCacheStats() {
+        long hits = diskHits.sum();
+        long missCount = misses.sum();
+        return List.of(
+                CacheStats.of("translation-memory", memory.estimatedSize(), memory.stats()),
+                CacheStats.builder()
+                        .name("translation-memory-disk")
+                        .size(countStored())
+                        .hitCount(hits)
+                        .missCount(missCount)
+                        .hitRate(hits + missCount == 0 ? 0.0 : (double) hits / (hits + missCount))
+                        .build()
+        );
+    }
+
+    private long countStored() {
+        try {
+            return repository.count();
+        } catch (DataAccessException e) {
+            return -1;
+        }
+    }
+
+    private static String key(String targetLanguage, String hash) {
+        return targetLanguage + ":" + hash;
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package me.seungeun.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import me.seungeun.dto.VaccineDictionaryStats;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in translations of the vaccine labels used by the public data portal (orglist3),
+ * loaded from resources/vaccine/vaccine_dictionary.json.
+ *
+ * Labels are mapped to canonical vaccine codes by their normalized text, or by the
+ * abbreviation in parentheses (e.g. "(DTaP)") for label variants not listed in the file.
+ * Translations are kept in a code x language array, so a lookup is two hash lookups and
+ * an array access. Labels that cannot be mapped are counted for later curation and left
+ * to the translation API.
+ */
+@Slf4j
+@Component
+public class VaccineDictionary {
+
+    private static final String RESOURCE = "vaccine/vaccine_dictionary.json";
+
+    // Language of the labels themselves; no translation needed
+    private static final String SOURCE_LANGUAGE = "ko";
+
+    // Upper bound for the number of distinct unknown labels kept for curation
+    private static final int MAX_UNKNOWN_LABELS = 500;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String[] codes = new String[0];                       // code index -> canonical code
+    private String[] languages = new String[0];                   // language index -> language
+    private String[][] translations = new String[0][];            // [code index][language index]
+    private Map<String, Integer> codeByLabel = Map.of();          // normalized label -> code index
+    private Map<String, Integer> codeByAbbreviation = Map.of();   // normalized abbreviation -> code index
+    private Map<String, Integer> languageIndex = Map.of();        // lowercase language or alias -> language index
+
+    private final Map<String, LongAdder> unknownLabels = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder unknownLookups = new LongAdder();
+    private final LongAdder unsupportedLanguageLookups = new LongAdder();
+
+    public VaccineDictionary() {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                log.warn("Vaccine dictionary file not found: {}", RESOURCE);
+                return;
+            }
+            load(objectMapper.readValue(inputStream, DictionaryFile.class));
+            log.info("Vaccine dictionary loaded: {} vaccines, {} labels, languages {}",
+                    codes.length, codeByLabel.size(), List.of(languages));
+
+        } catch (Exception e) {
+            log.error("Failed to read vaccine dictionary file", e);
+        }
+    }
+
+    private void load(DictionaryFile file) {
+        String[] languageTable = file.getLanguages().toArray(String[]::new);
+        Map<String, Integer> languageLookup = new HashMap<>();
+        for (int i = 0; i < languageTable.length; i++) {
+            languageLookup.put(languageTable[i].toLowerCase(Locale.ROOT), i);
+        }
+        file.getLanguageAliases().forEach((alias, language) -> {
+            Integer index = languageLookup.get(language.toLowerCase(Locale.ROOT));
+            if (index != null) {
+                languageLookup.put(alias.toLowerCase(Locale.ROOT), index);
+            }
+        });
+
+        String[] codeTable = new String[file.getVaccines().size()];
+        String[][] translationTable = new String[codeTable.length][];
+        Map<String, Integer> labels = new HashMap<>();
+        Map<String, Integer> abbreviations = new HashMap<>();
+        for (int c = 0; c < codeTable.length; c++) {
+            Vaccine vaccine = file.getVaccines().get(c);
+            codeTable[c] = vaccine.getCode();
+
+            translationTable[c] = new String[languageTable.length];
+            for (int l = 0; l < languageTable.length; l++) {
+                translationTable[c][l] = vaccine.getTranslations().get(languageTable[l]);
+            }
+
+            for (String label : vaccine.getLabels()) {
+                if (labels.putIfAbsent(normalize(label), c) != null) {
+                    log.warn("Duplicate vaccine label in dictionary: {}", label);
+                }
+            }
+            for (String abbreviation : vaccine.getAbbreviations()) {
+                abbreviations.putIfAbsent(normalize(abbreviation), c);
+            }
+        }
+
+        this.codes = codeTable;
+        this.languages = languageTable;
+        this.translations = translationTable;
+        this.codeByLabel = Map.copyOf(labels);
+        this.codeByAbbreviation = Map.copyOf(abbreviations);
+        this.languageIndex = Map.copyOf(languageLookup);
+    }
+
+    /**
+     * Returns the canonical code of a vaccine label.
+     * @param label vaccine label as returned by the public data portal
+     * @return vaccine code (e.g. "DTaP"), or null if the label is unknown
+     */
+    public String findCode(String label) {
+        int code = codeIndex(label);
+        return code < 0 ? null : codes[code];
+    }
+
+    /**
+     * Tells whether the label can be translated into the language without the translation API.
+     * Does not count towards the statistics.
+     * @param label vaccine label
+     * @param language target language code
+     * @return true if translate would return a value
+     */
+    public boolean canTranslate(String label, String language) {
+        if (isSourceLanguage(language)) return true;
+        int code = codeIndex(label);
+        int lang = languageIndex(language);
+        return code >= 0 && lang >= 0 && translations[code][lang] != null;
+    }
+
+    /**
+     * Translates a vaccine label from the built-in table.
+     * Labels that cannot be mapped to a vaccine are recorded as unknown.
+     * @param label vaccine label
+     * @param language target language code
+     * @return translated label, the label itself for Korean, or null if the table has no entry
+     */
+    public String translate(String label, String language) {
+        if (label == null) return null;
+
+        int code = codeIndex(label);
+        if (code < 0) {
+            recordUnknown(label);
+            return isSourceLanguage(language) ? label : null;
+        }
+        if (isSourceLanguage(language)) {
+            hits.increment();
+            return label;
+        }
+
+        int lang = languageIndex(language);
+        String translated = lang < 0 ? null : translations[code][lang];
+        if (translated == null) {
+            unsupportedLanguageLookups.increment();
+            return null;
+        }
+        hits.increment();
+        return translated;
+    }
+
+    /**
+     * Reports the size of the dictionary, lookup counters and the unknown labels seen so far.
+     * @return dictionary statistics, unknown labels ordered by count
+     */
+    public VaccineDictionaryStats getStats() {
+        Map<String, Long> unknown = new LinkedHashMap<>();
+        unknownLabels.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .forEach(e -> unknown.put(e.getKey(), e.getValue().sum()));
+
+        return VaccineDictionaryStats.builder()
+                .vaccines(codes.length)
+                .labels(codeByLabel.size())
+                .languages(List.of(languages))
+                .hits(hits.sum())
+                .unknownLookups(unknownLookups.sum())
+                .unsupportedLanguageLookups(unsupportedLanguageLookups.sum())
+                .unknownLabels(unknown)
+                .build();
+    }
+
+    // Full label first, then the abbreviation in the last pair of parentheses
+    private int codeIndex(String label) {
+        String normalized = normalize(label);
+        Integer code = codeByLabel.get(normalized);
+        if (code == null) {
+            String abbreviation = abbreviationOf(normalized);
+            code = abbreviation == null ? null : codeByAbbreviation.get(abbreviation);
+        }
+        return code == null ? -1 : code;
+    }
+
+    // Exact language or alias first, then the language without its region (e.g. "en-US" -> "en").
+    // Aliases are not used for the fallback, so "zh-TW" does not end up as "zh-CN".
+    private int languageIndex(String language) {
+        if (language == null) return -1;
+        String normalized = language.trim().toLowerCase(Locale.ROOT);
+        Integer index = languageIndex.get(normalized);
+        if (index == null && normalized.indexOf('-') > 0) {
+            String base = normalized.substring(0, normalized.indexOf('-'));
+            for (int i = 0; i < languages.length && index == null; i++) {
+                if (languages[i].equalsIgnoreCase(base)) index = i;
+            }
+        }
+        return index == null ? -1 : index;
+    }
+
+    private static boolean isSourceLanguage(String language) {
+        return language != null && SOURCE_LANGUAGE.equalsIgnoreCase(language.trim());
+    }
+
+    private void recordUnknown(String label) {
+        unknownLookups.increment();
+        LongAdder count = unknownLabels.get(label);
+        if (count == null && unknownLabels.size() < MAX_UNKNOWN_LABELS) {
+            count = unknownLabels.computeIfAbsent(label, key -> {
+                log.info("Vaccine label not in dictionary: {}", key);
+                return new LongAdder();
+            });
+        }
+        if (count != null) {
+            count.increment();
+        }
+    }
+
+    private static String abbreviationOf(String normalized) {
+        int close = normalized.lastIndexOf(')');
+        int open = close < 0 ? -1 : normalized.lastIndexOf('(', close);
+        return open < 0 ? null : normalized.substring(open + 1, close);
+    }
+
+    private static String normalize(String label) {
+        return HospitalNameIndex.normalize(label);
+    }
+
+    // JSON structure of the dictionary file
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class DictionaryFile {
+        private List<String> languages = List.of();
+        private Map<String, String> languageAliases = Map.of();
+        private List<Vaccine> vaccines = new ArrayList<>();
+    }
+
+    // JSON structure of a vaccine entry
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Vaccine {
+        private String code;
+        private List<String> abbreviations = List.of();
+        private List<String> labels = List.of();
+        private Map<String, String> translations = Map.of();
+    }
+}
@@ -4,172 +4,440 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import me.seungeun.client.KakaoMapClient;
-import me.seungeun.dto.RegionInfo;
+import me.seungeun.cache.VaccineHospitalSnapshot.RegionEntry;
+import me.seungeun.dto.AdminRegion;
+import me.seungeun.dto.BulkLoadStatus;
+import me.seungeun.dto.CacheRefreshStatus;
+import me.seungeun.dto.RegionCacheStats;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VaccineHospitalCacheService {
 
-    // RestTemplate instance for external API calls
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Maps lat/lng to an administrative region through the cached Kakao lookup
+    private final RegionResolver regionResolver;
 
-    // KakaoMapClient injected to obtain administrative region info by lat/lng
-    private final KakaoMapClient kakaoMapClient;
+    // Administrative region codes for the whole country
+    private final AdminRegionRegistry regionRegistry;
 
-    // Cache storing vaccine hospital info keyed by normalized hospital name
-    private final Map<String, VaccineInfo> vaccineHospitalMap = new HashMap<>();
+    // Paginated loader for the public data portal
+    private final PublicDataBulkLoader bulkLoader;
 
-    // API key for public data portal, read from application.yml
-    @Value("${publicdata.service.key}")
-    private String serviceKey;
+    // Local snapshot file used for fast warm startup
+    private final VaccineHospitalSnapshotStore snapshotStore;
+
+    // Current immutable snapshot of all cached regions, replaced with a single atomic swap
+    private final AtomicReference<VaccineHospitalSnapshot> snapshot =
+            new AtomicReference<>(VaccineHospitalSnapshot.empty());
+
+    // Location lookup counters per region key
+    private final Map<String, RegionCounters> regionCounters = new ConcurrentHashMap<>();
+
+    // Region keys already queued for loading
+    private final Set<String> pendingRegions = ConcurrentHashMap.newKeySet();
+
+    // Single background thread loading regions so request threads never wait on the public data portal
+    private final ExecutorService loadExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vaccine-cache-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Last bulk load run; its unfinished regions are carried into the next run
+    private volatile BulkLoadProgress lastBulkLoad;
+
+    // Set while a refresh is queued or running, so scheduled refreshes never overlap
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    // Refresh metrics
+    private volatile Instant lastRefreshStartedAt;
+    private volatile long lastRefreshDurationMs;
+    private volatile Instant lastRefreshSuccessAt;
+    private volatile int lastRefreshedRegions;
+    private volatile int lastFailedRegions;
+
+    // Delay between scheduled refreshes (ISO-8601 duration)
+    @Value("${publicdata.refresh.interval:PT6H}")
+    private Duration refreshInterval;
 
     // Reusable ObjectMapper instance for JSON parsing
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
-    // Mapping of city names to administrative codes (e.g., Seoul Special City -> 1100000000)
-    private static final Map<String, String> brtcCdMap = Map.of(
-            "서울특별시", "1100000000",
-            "부산광역시", "2600000000"
-    );
+    // Mock records, read once on the first API failure
+    private volatile List<VaccineInfo> mockVaccineInfos;
+
+    /**
+     * Runs once after bean construction.
+     * Restores the snapshot saved by the previous run, then refreshes
+     * missing and stale regions in the background.
+     */
+    @PostConstruct
+    public void init() {
+        snapshotStore.load().ifPresent(snapshot::set);
+        scheduleRefresh();
+    }
+
+    /**
+     * Queues a refresh of stale regions on the loader thread.
+     * Runs on the configured interval; skipped while a previous refresh is still running.
+     */
+    @Scheduled(fixedDelayString = "${publicdata.refresh.interval:PT6H}",
+            initialDelayString = "${publicdata.refresh.interval:PT6H}")
+    public void scheduleRefresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            log.info("VaccineHospitalCache refresh already running, skipped");
+            return;
+        }
+        loadExecutor.submit(() -> {
+            try {
+                refreshStaleRegions();
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    /**
+     * Reloads regions that are missing, older than half the refresh interval or backed by mock data,
+     * together with the regions the previous run failed to load.
+     * The previous snapshot keeps being served while the refresh runs, and regions that fail
+     * keep their last successfully loaded data.
+     */
+    public void refreshStaleRegions() {
+        // Half the interval, since regions loaded by the previous run are a little younger
+        // than the fixed delay when the next run starts and would otherwise wait a second one
+        Instant staleBefore = Instant.now().minus(refreshInterval.dividedBy(2));
+        VaccineHospitalSnapshot current = snapshot.get();
+        List<AdminRegion> staleRegions = regionRegistry.getRegions().stream()
+                .filter(region -> {
+                    RegionEntry entry = current.getRegion(region.getKey());
+                    return entry == null || entry.fallback() || entry.loadedAt().isBefore(staleBefore);
+                })
+                .toList();
+        runBulkLoad(staleRegions);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loadExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads every known administrative region through the bulk loader.
+     * Regions left unfinished by the previous run continue from the page where they stopped.
+     * Regions keep being served from the cache while they are reloaded.
+     */
+    public void loadAllRegions() {
+        runBulkLoad(regionRegistry.getRegions());
+    }
+
+    // Runs a bulk load over the regions and the previous run's unfinished ones, and records refresh metrics
+    private synchronized void runBulkLoad(List<AdminRegion> regions) {
+        BulkLoadProgress progress = new BulkLoadProgress(regions, lastBulkLoad);
+        if (progress.isEmpty()) return;
+        lastBulkLoad = progress;
+
+        Instant started = Instant.now();
+        lastRefreshStartedAt = started;
+
+        bulkLoader.run(progress, this::putRegion);
+
+        // Regions never loaded fall back to mock data until a later run succeeds
+        List<AdminRegion> failedRegions = progress.getFailedRegions();
+        for (AdminRegion region : failedRegions) {
+            if (!snapshot.get().containsRegion(region.getKey())) {
+                snapshot.updateAndGet(current -> current.withRegion(
+                        RegionEntry.fallback(region, loadMockVaccineInfo(region))));
+            }
+        }
+
+        if (progress.toStatus().getCompletedRegions() > 0) {
+            snapshotStore.save(snapshot.get());
+        }
+
+        lastRefreshDurationMs = Duration.between(started, Instant.now()).toMillis();
+        lastRefreshedRegions = progress.toStatus().getTotalRegions() - failedRegions.size();
+        lastFailedRegions = failedRegions.size();
+        // A region that keeps failing is reported by lastFailedRegions and must not hide the others' progress
+        if (lastRefreshedRegions > 0) {
+            lastRefreshSuccessAt = Instant.now();
+        }
+        log.info("VaccineHospitalCache refreshed in {} ms ({} failed regions); holds {} regions with {} entries",
+                lastRefreshDurationMs, failedRegions.size(), snapshot.get().getRegions().size(), getTotalSize());
+    }
+
+    /**
+     * Reports refresh timing and staleness of the cache.
+     * @return refresh status
+     */
+    public CacheRefreshStatus getRefreshStatus() {
+        VaccineHospitalSnapshot current = snapshot.get();
+        Instant oldest = current.getRegions().stream()
+                .map(RegionEntry::loadedAt)
+                .min(Instant::compareTo)
+                .orElse(null);
+        return CacheRefreshStatus.builder()
+                .refreshInterval(refreshInterval)
+                .refreshing(refreshing.get())
+                .lastRefreshStartedAt(lastRefreshStartedAt)
+                .lastRefreshDurationMs(lastRefreshDurationMs)
+                .lastRefreshSuccessAt(lastRefreshSuccessAt)
+                .lastRefreshedRegions(lastRefreshedRegions)
+                .lastFailedRegions(lastFailedRegions)
+                .snapshotCreatedAt(current.getCreatedAt())
+                .oldestRegionLoadedAt(oldest)
+                .build();
+    }
+
+    // Status of the last bulk load run, null before the first run
+    public BulkLoadStatus getBulkLoadStatus() {
+        BulkLoadProgress progress = lastBulkLoad;
+        return progress != null ? progress.toStatus() : null;
+    }
 
-    // Mapping of district names to administrative codes (e.g., Jongno-gu -> 11110)
-    private static final Map<String, String> sggCdMap = Map.of(
-            "종로구", "11110",
-            "중구", "11140",
-            "강남구", "11680"
-    );
+    /**
+     * Fetches one region from the public data portal and replaces its cache entry.
+     * If the call fails, the last successfully loaded entry is kept; otherwise mock data for the region is used.
+     * @param region administrative region to load
+     */
+    public void loadRegion(AdminRegion region) {
+        try {
+            List<VaccineInfo> vaccineInfos = requestRegion(region);
+            putRegion(region, vaccineInfos);
+        } catch (Exception e) {
+            log.error("Failed to load vaccine hospitals for region {} {}", region.getSi(), region.getGu(), e);
+            if (!snapshot.get().containsRegion(region.getKey())) {
+                snapshot.updateAndGet(current -> current.withRegion(
+                        RegionEntry.fallback(region, loadMockVaccineInfo(region))));
+            }
+        } finally {
+            pendingRegions.remove(region.getKey());
+        }
+    }
 
-    // Normalize hospital name: convert to lowercase and remove whitespace
-    private String normalize(String name) {
-        if (name == null) return "";
-        return name.toLowerCase().replaceAll("\\s+", "");
+    // Builds the region entry off to the side, then publishes a new snapshot containing it
+    private void putRegion(AdminRegion region, List<VaccineInfo> vaccineInfos) {
+        RegionEntry entry = RegionEntry.of(region, vaccineInfos);
+        snapshot.updateAndGet(current -> current.withRegion(entry));
+        log.debug("Region {} {} cached with {} entries", region.getSi(), region.getGu(), vaccineInfos.size());
     }
 
     /**
-     * Initialize the cache by fetching vaccine hospitals from public data API
-     * according to the provided latitude and longitude.
-     * Clears previous cache and stores fresh data.
+     * Initialize the cache for the region containing the provided latitude and longitude.
+     * Fetches the region synchronously and replaces its cached entry.
      * @param lat latitude coordinate
      * @param lng longitude coordinate
      */
     public void initializeCache(double lat, double lng) {
-        List<VaccineInfo> vaccineInfos = fetchHospitalsByLocation(lat, lng);
-        vaccineHospitalMap.clear();
-        for (VaccineInfo info : vaccineInfos) {
-            vaccineHospitalMap.put(normalize(info.getCenterName()), info);
-        }
-        log.info("VaccineHospitalCache initialized with {} entries", vaccineHospitalMap.size());
+        AdminRegion region = resolveRegion(lat, lng);
+        if (region == null) return;
+        loadRegion(region);
+        log.info("VaccineHospitalCache initialized region {} {} with {} entries",
+                region.getSi(), region.getGu(), getHospitalsByRegion(region).size());
     }
 
     /**
-     * Runs once after bean construction.
-     * Initializes cache with default coordinate (center of Seoul).
+     * Returns the cached vaccine hospitals of the region containing the given coordinate.
+     * Never calls the public data portal: a region that is not loaded yet is queued
+     * for background loading and an empty list is returned.
+     * @param lat latitude coordinate
+     * @param lng longitude coordinate
+     * @return cached VaccineInfo list, empty if the region is unknown or not loaded yet
      */
-    @PostConstruct
-    public void init() {
-        initializeCache(37.5665, 126.9780);
+    public List<VaccineInfo> getHospitalsByLocation(double lat, double lng) {
+        return getHospitalsByLocationAsync(lat, lng).block();
+    }
+
+    /**
+     * Non-blocking variant of getHospitalsByLocation; waits only when the region has to be
+     * resolved with Kakao.
+     * @param lat latitude coordinate
+     * @param lng longitude coordinate
+     * @return cached VaccineInfo list, empty if the region is unknown or not loaded yet
+     */
+    public Mono<List<VaccineInfo>> getHospitalsByLocationAsync(double lat, double lng) {
+        return regionResolver.resolveAsync(lat, lng)
+                .map(this::getHospitalsByRegion)
+                .defaultIfEmpty(List.of())
+                .onErrorResume(e -> {
+                    log.error("Failed to resolve administrative region for {}, {}", lat, lng, e);
+                    return Mono.just(List.of());
+                });
+    }
+
+    /**
+     * Returns the cached vaccine hospitals of a region, queuing it for loading on a miss.
+     * @param region administrative region
+     * @return cached VaccineInfo list, empty if not loaded yet
+     */
+    public List<VaccineInfo> getHospitalsByRegion(AdminRegion region) {
+        RegionCounters counters = regionCounters.computeIfAbsent(region.getKey(), key -> new RegionCounters());
+        RegionEntry entry = snapshot.get().getRegion(region.getKey());
+        if (entry != null) {
+            counters.hits.increment();
+            return entry.hospitals();
+        }
+
+        counters.misses.increment();
+        if (pendingRegions.add(region.getKey())) {
+            loadExecutor.submit(() -> loadRegion(region));
+        }
+        return List.of();
     }
 
     /**
-     * Finds the best matching vaccine hospital info by computing Levenshtein
-     * distance between input hospital name and cached hospital names.
+     * Finds the best matching vaccine hospital info using the country-wide name index.
      * @param hospitalName hospital name to search for
      * @return best matching VaccineInfo or null if none found
      */
     public VaccineInfo getBestMatchingHospital(String hospitalName) {
-        String normalizedName = normalize(hospitalName);
-        vaccineHospitalMap.forEach((key, value) -> {
-            int dist = levenshtein(normalizedName, normalize(key));
-            log.info("Comparing '{}' to '{}', distance: {}", normalizedName, normalize(key), dist);
-        });
+        HospitalNameIndex.Match match = findBestMatch(hospitalName);
+        return match != null ? match.info() : null;
+    }
 
-        return vaccineHospitalMap.entrySet().stream()
-                .min(Comparator.comparingInt(e -> levenshtein(normalizedName, normalize(e.getKey()))))
-                .map(Map.Entry::getValue)
-                .orElse(null);
+    /**
+     * Finds the best matching vaccine hospital across all cached regions
+     * together with its edit distance and score, using the country-wide name index.
+     * @param hospitalName hospital name to search for
+     * @return best match or null if no cached name is close enough
+     */
+    public HospitalNameIndex.Match findBestMatch(String hospitalName) {
+        HospitalNameIndex.Match best = snapshot.get().findBestMatch(hospitalName);
+        if (best != null) {
+            log.debug("Best match for '{}': '{}', distance: {}", hospitalName, best.matchedName(), best.distance());
+        }
+        return best;
     }
 
     /**
-     * Computes Levenshtein distance between two strings.
-     * This is used to determine similarity by minimum edit distance.
-     * @param a first string
-     * @param b second string
-     * @return edit distance between a and b
-     */
-    public static int levenshtein(String a, String b) {
-        int[] costs = new int[b.length() + 1];
-        for (int j = 0; j < costs.length; j++)
-            costs[j] = j;
-        for (int i = 1; i <= a.length(); i++) {
-            costs[0] = i;
-            int nw = i - 1;
-            for (int j = 1; j <= b.length(); j++) {
-                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
-                        a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
-                nw = costs[j];
-                costs[j] = cj;
-            }
+     * Finds the cached vaccine hospital that is the same place as a hospital at the given
+     * coordinate: the closest name among the cached hospitals a few hundred meters around it.
+     * @param hospitalName hospital name to search for
+     * @param lat latitude of the hospital
+     * @param lng longitude of the hospital
+     * @return best matching VaccineInfo or null if no hospital nearby has a close enough name
+     */
+    public VaccineInfo getBestMatchingHospital(String hospitalName, double lat, double lng) {
+        HospitalNameIndex.Match match = snapshot.get().findBestMatch(hospitalName, lat, lng);
+        return match != null ? match.info() : null;
+    }
+
+    /**
+     * Finds cached vaccine hospitals near a coordinate without any network call.
+     * @param lat latitude of the center
+     * @param lng longitude of the center
+     * @param radiusMeters search radius in meters
+     * @param limit maximum number of hospitals
+     * @return hospitals with their distance, nearest first
+     */
+    public List<SpatialGridIndex.Neighbor> findNearbyHospitals(double lat, double lng, double radiusMeters, int limit) {
+        return snapshot.get().findNearby(lat, lng, radiusMeters, limit);
+    }
+
+    // Total number of cached hospitals over all regions
+    public int getTotalSize() {
+        return snapshot.get().getTotalSize();
+    }
+
+    /**
+     * Collects the distinct vaccine labels of all cached hospitals, e.g. for prewarming translations.
+     * Falls back to the mock data while nothing has been loaded yet.
+     * @return distinct vaccine labels
+     */
+    public Set<String> getVaccineLabels() {
+        Set<String> labels = new TreeSet<>();
+        for (RegionEntry entry : snapshot.get().getRegions()) {
+            entry.hospitals().forEach(info -> addLabels(labels, info));
         }
+        if (labels.isEmpty()) {
+            loadMockVaccineInfo().forEach(info -> addLabels(labels, info));
+        }
+        return labels;
+    }
+
+    private static void addLabels(Set<String> labels, VaccineInfo info) {
+        if (info.getVaccines() == null) return;
+        info.getVaccines().stream()
+                .filter(label -> label != null && !label.isBlank())
+                .forEach(labels::add);
+    }
+
+    // Current snapshot; callers keep using the returned instance for a consistent view
+    public VaccineHospitalSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Reports size, age and location lookup hit rate for every known region.
+     * @return one entry per administrative region
+     */
+    public List<RegionCacheStats> getRegionStats() {
+        Instant now = Instant.now();
+        VaccineHospitalSnapshot current = snapshot.get();
+        return regionRegistry.getRegions().stream()
+                .map(region -> {
+                    RegionEntry entry = current.getRegion(region.getKey());
+                    RegionCounters counters = regionCounters.get(region.getKey());
+                    long hits = counters != null ? counters.hits.sum() : 0;
+                    long misses = counters != null ? counters.misses.sum() : 0;
+                    return RegionCacheStats.builder()
+                            .regionKey(region.getKey())
+                            .si(region.getSi())
+                            .gu(region.getGu())
+                            .size(entry != null ? entry.hospitals().size() : 0)
+                            .loadedAt(entry != null ? entry.loadedAt() : null)
+                            .ageSeconds(entry != null ? Duration.between(entry.loadedAt(), now).toSeconds() : null)
+                            .fallback(entry != null && entry.fallback())
+                            .hits(hits)
+                            .misses(misses)
+                            .hitRate(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+                            .build();
+                })
+                .toList();
+    }
 
-        return costs[b.length()];
+    // Gets the administrative region containing the coordinate
+    private AdminRegion resolveRegion(double lat, double lng) {
+        return regionResolver.resolve(lat, lng);
     }
 
     /**
-     * Uses KakaoMapClient to get administrative region by lat/lng,
+     * Resolves the administrative region of lat/lng,
      * then calls public data portal API to fetch vaccine hospital list in JSON format.
+     * This always goes to the network; request handling should use getHospitalsByLocation.
      * @param lat latitude coordinate
      * @param lng longitude coordinate
      * @return list of VaccineInfo, or mock data if API call fails
      */
     public List<VaccineInfo> fetchHospitalsByLocation(double lat, double lng) {
         try {
-            RegionInfo region = kakaoMapClient.getRegionInfo(lat, lng);
-            String brtcCd = brtcCdMap.get(region.getSi());
-            String sggCd = sggCdMap.get(region.getGu());
-
-            if (brtcCd == null || sggCd == null) {
-                log.warn("Failed to map administrative codes: {}, {}", region.getSi(), region.getGu());
+            AdminRegion region = resolveRegion(lat, lng);
+            if (region == null) {
                 return List.of();
             }
-
-            String url = UriComponentsBuilder
-                    .fromHttpUrl("https://apis.data.go.kr/1790387/orglist3/getOrgList3")
-                    .queryParam("serviceKey", serviceKey)
-                    .queryParam("numOfRows", 100)
-                    .queryParam("pageNo", 1)
-                    .queryParam("returnType", "json")
-                    .queryParam("brtcCd", brtcCd)
-                    .queryParam("sggCd", sggCd)
-                    .toUriString();
-
-            log.info("Location-based hospital request: {}", url);
-
-            String responseStr = restTemplate.getForObject(url, String.class);
-
-            // Guard against XML response (API key or parameters issues)
-            if (responseStr != null && responseStr.trim().startsWith("<")) {
-                log.error("API response is XML, not JSON. Check API key or request parameters.");
-                log.debug("XML response: {}", responseStr);
-                return loadMockVaccineInfo();
-            }
-
-            VaccineApiResponse parsed = objectMapper.readValue(responseStr, VaccineApiResponse.class);
-
-            return parsed.getData();
+            return requestRegion(region);
 
         } catch (Exception e) {
             log.error("Failed to fetch vaccine hospital information from public data API", e);
@@ -177,11 +445,29 @@ public class VaccineHospitalCacheService {
         }
     }
 
+    /**
+     * Calls the public data portal API for one administrative region, fetching all pages.
+     * @param region administrative region
+     * @return list of VaccineInfo returned by the API
+     * @throws Exception if the call fails or the API answers with XML
+     */
+    private List<VaccineInfo> requestRegion(AdminRegion region) throws Exception {
+        return bulkLoader.fetchRegion(region);
+    }
+
+    // Location lookup counters of one region
+    private static class RegionCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
     // POJO for API response wrapper
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
     static class VaccineApiResponse {
         private List<VaccineInfo> data; // hospital list under data field
+        private Integer totalCount;     // number of records over all pages, if reported
+        private Integer currentCount;   // number of records in this page, if reported
     }
 
     // POJO for vaccine hospital info
@@ -198,12 +484,22 @@ public class VaccineHospitalCacheService {
         private double lng;           // longitude
     }
 
+    // Mock records whose address lies in the given region
+    private List<VaccineInfo> loadMockVaccineInfo(AdminRegion region) {
+        return loadMockVaccineInfo().stream()
+                .filter(info -> region.equals(regionRegistry.findByAddress(info.getAddress())))
+                .toList();
+    }
+
     /**
      * Loads mock vaccine hospital data from JSON file
      * under resources/mock/vaccine_sample.json in case of API failure.
      * @return list of VaccineInfo mock data
      */
     private List<VaccineInfo> loadMockVaccineInfo() {
+        if (mockVaccineInfos != null) {
+            return mockVaccineInfos;
+        }
         try {
             var inputStream = getClass().getClassLoader().getResourceAsStream("mock/vaccine_sample.json");
             if (inputStream == null) {
@@ -216,7 +512,8 @@ public class VaccineHospitalCacheService {
                     objectMapper.getTypeFactory().constructCollectionType(List.class, VaccineInfo.class)
             );
             log.info("Mock vaccine info loaded successfully: {} records", list.size());
-            return list;
+            mockVaccineInfos = List.copyOf(list);
+            return mockVaccineInfos;
 
         } catch (Exception e) {
             log.error("Failed to read mock vaccine info file", e);
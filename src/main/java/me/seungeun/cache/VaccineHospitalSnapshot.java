@@ -0,0 +1,191 @@
+package me.seungeun.cache;
+
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.dto.AdminRegion;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the vaccine hospital cache: every loaded region with its
+ * hospitals and spatial index, and one name index over the whole country.
+ * A new snapshot is built for every change and published by swapping a single
+ * reference, so readers never see a partly updated cache.
+ */
+public final class VaccineHospitalSnapshot {
+
+    private static final VaccineHospitalSnapshot EMPTY = new VaccineHospitalSnapshot(Map.of());
+
+    // Maximum distance between a place and the cached hospital it is matched with by name
+    private static final double MATCH_RADIUS_METERS = 500;
+
+    private final Map<String, RegionEntry> regions;  // region key -> entry
+    private final List<RegionEntry> sortedRegions;   // entries ordered by region key, for deterministic scans
+    private final int totalSize;
+    private final Instant createdAt = Instant.now();
+
+    // Name index over the hospitals of every region, built on the first name lookup
+    private volatile HospitalNameIndex nameIndex;
+
+    private VaccineHospitalSnapshot(Map<String, RegionEntry> regions) {
+        this.regions = regions;
+        this.sortedRegions = regions.values().stream()
+                .sorted(Comparator.comparing(entry -> entry.region().getKey()))
+                .toList();
+        this.totalSize = regions.values().stream().mapToInt(entry -> entry.hospitals().size()).sum();
+    }
+
+    public static VaccineHospitalSnapshot empty() {
+        return EMPTY;
+    }
+
+    // Snapshot holding the given entries, e.g. restored from disk
+    public static VaccineHospitalSnapshot of(Collection<RegionEntry> entries) {
+        Map<String, RegionEntry> regions = new HashMap<>();
+        entries.forEach(entry -> regions.put(entry.region().getKey(), entry));
+        return new VaccineHospitalSnapshot(Map.copyOf(regions));
+    }
+
+    /**
+     * Returns a copy of this snapshot with one region added or replaced.
+     * @param entry prebuilt region entry
+     * @return new snapshot
+     */
+    public VaccineHospitalSnapshot withRegion(RegionEntry entry) {
+        Map<String, RegionEntry> copy = new HashMap<>(regions);
+        copy.put(entry.region().getKey(), entry);
+        return new VaccineHospitalSnapshot(Map.copyOf(copy));
+    }
+
+    public RegionEntry getRegion(String regionKey) {
+        return regions.get(regionKey);
+    }
+
+    public boolean containsRegion(String regionKey) {
+        return regions.containsKey(regionKey);
+    }
+
+    public Collection<RegionEntry> getRegions() {
+        return regions.values();
+    }
+
+    // Total number of cached hospitals over all regions
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Finds the best matching hospital name across all regions with one lookup in the
+     * country-wide name index, so the cost does not grow with the number of regions.
+     * Of hospitals sharing a name, the one in the region with the lowest key is indexed.
+     * @param hospitalName hospital name to search for
+     * @return best match or null if no cached name is close enough
+     */
+    public HospitalNameIndex.Match findBestMatch(String hospitalName) {
+        return nameIndex().findBestMatch(hospitalName);
+    }
+
+    // Built on demand, so the snapshots published region by region during a bulk load do not each rebuild it
+    private HospitalNameIndex nameIndex() {
+        HospitalNameIndex index = nameIndex;
+        if (index == null) {
+            // The index keeps the last of equal names, so regions are added from the highest key down
+            List<VaccineInfo> hospitals = new ArrayList<>(totalSize);
+            for (int i = sortedRegions.size() - 1; i >= 0; i--) {
+                hospitals.addAll(sortedRegions.get(i).hospitals());
+            }
+            // Two threads racing here build equal indexes, so either result may be kept
+            index = HospitalNameIndex.build(hospitals);
+            nameIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Finds the cached hospital that is the same place as a hospital at the given coordinate.
+     * Only hospitals within MATCH_RADIUS_METERS of the coordinate are candidates, so a
+     * branch with the same name in another city never matches; among them the closest
+     * name wins, and the nearer hospital on equally close names.
+     * @param hospitalName hospital name to search for
+     * @param lat latitude of the hospital being matched
+     * @param lng longitude of the hospital being matched
+     * @return best match or null if no hospital nearby has a close enough name
+     */
+    public HospitalNameIndex.Match findBestMatch(String hospitalName, double lat, double lng) {
+        List<SpatialGridIndex.Neighbor> nearby = new ArrayList<>();
+        for (RegionEntry entry : sortedRegions) {
+            // Regions whose hospitals all lie outside the radius are skipped
+            if (entry.spatialIndex().minDistanceMeters(lat, lng) <= MATCH_RADIUS_METERS) {
+                nearby.addAll(entry.spatialIndex().withinRadius(lat, lng, MATCH_RADIUS_METERS));
+            }
+        }
+        if (nearby.isEmpty()) return null;
+
+        // Nearest first, so the nearer of two equally close names wins
+        nearby.sort(Comparator.comparingDouble(SpatialGridIndex.Neighbor::distanceMeters));
+        return HospitalNameIndex.findBestMatchAmong(hospitalName,
+                nearby.stream().map(SpatialGridIndex.Neighbor::info).toList());
+    }
+
+    /**
+     * Returns the cached hospitals within the radius, nearest first.
+     * @param lat latitude of the center
+     * @param lng longitude of the center
+     * @param radiusMeters search radius in meters
+     * @param limit maximum number of hospitals
+     * @return hospitals with their distance, sorted by distance
+     */
+    public List<SpatialGridIndex.Neighbor> findNearby(double lat, double lng, double radiusMeters, int limit) {
+        if (limit <= 0) return List.of();
+        List<SpatialGridIndex.Neighbor> result = new ArrayList<>();
+        for (RegionEntry entry : sortedRegions) {
+            // Regions whose hospitals all lie outside the radius are skipped
+            if (entry.spatialIndex().minDistanceMeters(lat, lng) <= radiusMeters) {
+                result.addAll(entry.spatialIndex().nearest(lat, lng, limit, radiusMeters));
+            }
+        }
+        result.sort(Comparator.comparingDouble(SpatialGridIndex.Neighbor::distanceMeters));
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * Cached hospitals of one region together with their spatial index.
+     * @param region administrative region
+     * @param hospitals hospitals of the region
+     * @param spatialIndex grid index over the hospital coordinates
+     * @param loadedAt time the region was loaded
+     * @param fallback true if the hospitals come from mock data because the region never loaded
+     */
+    public record RegionEntry(AdminRegion region, List<VaccineInfo> hospitals,
+                              SpatialGridIndex spatialIndex, Instant loadedAt, boolean fallback) {
+
+        // Builds the entry and its spatial index; done before the snapshot swap
+        public static RegionEntry of(AdminRegion region, List<VaccineInfo> hospitals) {
+            return create(region, hospitals, Instant.now(), false);
+        }
+
+        // Entry read back from disk, keeping its original load time
+        public static RegionEntry restored(AdminRegion region, List<VaccineInfo> hospitals, Instant loadedAt) {
+            return create(region, hospitals, loadedAt, false);
+        }
+
+        // Entry backed by mock data, replaced by the next successful load
+        public static RegionEntry fallback(AdminRegion region, List<VaccineInfo> hospitals) {
+            return create(region, hospitals, Instant.now(), true);
+        }
+
+        private static RegionEntry create(AdminRegion region, List<VaccineInfo> hospitals,
+                                          Instant loadedAt, boolean fallback) {
+            return new RegionEntry(region, List.copyOf(hospitals), SpatialGridIndex.build(hospitals), loadedAt, fallback);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package me.seungeun.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.cache.VaccineHospitalSnapshot.RegionEntry;
+import me.seungeun.dto.AdminRegion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persists the vaccine hospital snapshot to a local binary file so a restarted
+ * node can serve the last loaded data immediately and refresh in the background.
+ *
+ * File layout (version 2, big-endian):
+ * magic, version, write time, vaccine label table, then every region with its
+ * load time and hospitals. Vaccine labels repeat across hospitals and are stored
+ * once in the label table and referenced by index. Every string the portal may
+ * leave out, labels included, is preceded by a presence flag.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VaccineHospitalSnapshotStore {
+
+    private static final int MAGIC = 0x56484353; // "VHCS"
+    private static final short VERSION = 2;
+
+    private final AdminRegionRegistry regionRegistry;
+
+    @Value("${publicdata.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${publicdata.snapshot.path:data/vaccine-hospitals.snapshot}")
+    private String path;
+
+    /**
+     * Writes the snapshot to disk, replacing the previous file atomically.
+     * Regions backed by mock data are not written.
+     * @param snapshot snapshot to persist
+     */
+    public void save(VaccineHospitalSnapshot snapshot) {
+        if (!enabled) return;
+
+        List<RegionEntry> entries = snapshot.getRegions().stream()
+                .filter(entry -> !entry.fallback())
+                .toList();
+        if (entries.isEmpty()) return;
+
+        Path target = Paths.get(path);
+        Path temp = null;
+        try {
+            Path dir = target.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            temp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                write(out, entries);
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Vaccine hospital snapshot saved: {} regions, {} bytes", entries.size(), Files.size(target));
+
+        } catch (IOException | RuntimeException e) {
+            // The snapshot only speeds up the next startup, so a failed save never fails the refresh
+            log.error("Failed to save vaccine hospital snapshot to {}", target, e);
+        } finally {
+            deleteTemp(temp);
+        }
+    }
+
+    /**
+     * Reads the snapshot file written by a previous run.
+     * @return restored snapshot, or empty if there is no readable file
+     */
+    public Optional<VaccineHospitalSnapshot> load() {
+        if (!enabled) return Optional.empty();
+
+        Path source = Paths.get(path);
+        if (!Files.isRegularFile(source)) {
+            return Optional.empty();
+        }
+
+        long started = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            VaccineHospitalSnapshot snapshot = read(in);
+            log.info("Vaccine hospital snapshot loaded in {} ms: {} regions, {} entries",
+                    System.currentTimeMillis() - started, snapshot.getRegions().size(), snapshot.getTotalSize());
+            return Optional.of(snapshot);
+
+        } catch (Exception e) {
+            log.error("Failed to read vaccine hospital snapshot from {}", source, e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(DataOutputStream out, List<RegionEntry> entries) throws IOException {
+        // Label table shared by all hospitals
+        Map<String, Integer> labels = new HashMap<>();
+        List<String> labelTable = new ArrayList<>();
+        for (RegionEntry entry : entries) {
+            for (VaccineInfo info : entry.hospitals()) {
+                if (info.getVaccines() == null) continue;
+                for (String vaccine : info.getVaccines()) {
+                    labels.computeIfAbsent(vaccine, label -> {
+                        labelTable.add(label);
+                        return labelTable.size() - 1;
+                    });
+                }
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(System.currentTimeMillis());
+
+        out.writeInt(labelTable.size());
+        for (String label : labelTable) {
+            writeNullable(out, label);
+        }
+
+        out.writeInt(entries.size());
+        for (RegionEntry entry : entries) {
+            out.writeUTF(entry.region().getKey());
+            out.writeLong(entry.loadedAt().toEpochMilli());
+            out.writeInt(entry.hospitals().size());
+
+            for (VaccineInfo info : entry.hospitals()) {
+                writeNullable(out, info.getCenterName());
+                writeNullable(out, info.getAddress());
+                writeNullable(out, info.getTel());
+                out.writeDouble(info.getLat());
+                out.writeDouble(info.getLng());
+
+                List<String> vaccines = info.getVaccines();
+                out.writeInt(vaccines == null ? -1 : vaccines.size());
+                if (vaccines != null) {
+                    for (String vaccine : vaccines) {
+                        out.writeInt(labels.get(vaccine));
+                    }
+                }
+            }
+        }
+    }
+
+    private VaccineHospitalSnapshot read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a vaccine hospital snapshot file");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+        in.readLong(); // write time
+
+        String[] labelTable = new String[in.readInt()];
+        for (int i = 0; i < labelTable.length; i++) {
+            labelTable[i] = readNullable(in);
+        }
+
+        int regionCount = in.readInt();
+        List<RegionEntry> entries = new ArrayList<>(regionCount);
+        for (int r = 0; r < regionCount; r++) {
+            String regionKey = in.readUTF();
+            Instant loadedAt = Instant.ofEpochMilli(in.readLong());
+            int hospitalCount = in.readInt();
+
+            List<VaccineInfo> hospitals = new ArrayList<>(hospitalCount);
+            for (int h = 0; h < hospitalCount; h++) {
+                VaccineInfo info = new VaccineInfo();
+                info.setCenterName(readNullable(in));
+                info.setAddress(readNullable(in));
+                info.setTel(readNullable(in));
+                info.setLat(in.readDouble());
+                info.setLng(in.readDouble());
+
+                int vaccineCount = in.readInt();
+                if (vaccineCount >= 0) {
+                    List<String> vaccines = new ArrayList<>(vaccineCount);
+                    for (int v = 0; v < vaccineCount; v++) {
+                        vaccines.add(labelTable[in.readInt()]);
+                    }
+                    info.setVaccines(vaccines);
+                }
+                hospitals.add(info);
+            }
+
+            // Regions whose codes are no longer known are dropped
+            AdminRegion region = regionRegistry.findByKey(regionKey);
+            if (region != null) {
+                entries.add(RegionEntry.restored(region, hospitals, loadedAt));
+            }
+        }
+        return VaccineHospitalSnapshot.of(entries);
+    }
+
+    // Removes a temp file left by a failed save; a no-op once it was moved into place
+    private static void deleteTemp(Path temp) {
+        if (temp == null) return;
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary snapshot file {}", temp, e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -1,44 +1,143 @@
 package me.seungeun.client;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import me.seungeun.cache.AudioBlobStore;
+import me.seungeun.cache.ChatAnswerCache;
+import me.seungeun.dto.CacheStats;
 import me.seungeun.dto.FastApiResponse;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class FastApiClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Non-blocking clients; the FastAPI one allows the large call script responses
+    private final UpstreamWebClients webClients;
 
-    @Value("${fastapi.model.url}")
-    private String fastApiUrl;
+    // Takes the audio clips out of the scripts, leaving short URLs
+    private final AudioBlobStore audioBlobStore;
+
+    // Total size of the cached call scripts; audio counts only while it is kept inline
+    @Value("${callscript.cache.max-size:256MB}")
+    private DataSize cacheMaxSize;
+
+    // Lifetime of a cached call script, so scripts follow changes of the model and the voices
+    @Value("${callscript.cache.ttl:PT24H}")
+    private Duration cacheTtl;
+
+    // "language\u0000normalized question" -> call script; concurrent identical questions share one future
+    private AsyncCache<String, FastApiResponse> scriptCache;
+
+    @PostConstruct
+    void initCache() {
+        // Evicts by weight, so one script with long audio counts for as much as many short ones
+        scriptCache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxSize.toBytes())
+                .weigher((String key, FastApiResponse script) -> weigh(script))
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .buildAsync();
+    }
 
     public FastApiResponse generateResponse(String userQuestion) {
-        // 1. Set HTTP request headers: Content-Type set to JSON
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        return generateResponse(userQuestion, "en");
+    }
+
+    /**
+     * Returns the call script for the question, generating it with FastAPI (text and TTS)
+     * only if the same question in the same language is not cached yet. Questions are
+     * compared after normalization, and concurrent identical questions wait for a single
+     * generation. Failed generations are not cached.
+     * Audio clips are moved to the audio blob store and replaced by their URLs before the
+     * script is cached, so responses and cache entries stay small.
+     *
+     * @param userQuestion question as typed by the user
+     * @param userLang language of the answers, mandatory for FastAPI
+     * @return call script with its audio clips
+     */
+    public FastApiResponse generateResponse(String userQuestion, String userLang) {
+        String key = userLang + "\u0000" + ChatAnswerCache.normalize(userQuestion);
+
+        // Cancelling one caller must not cancel the generation other callers are waiting for
+        return Mono.defer(() -> Mono.fromFuture(scriptCache.get(key,
+                        (k, executor) -> requestCallScript(userQuestion, userLang).toFuture()), true))
+                .block();
+    }
+
+    public CacheStats getCacheStats() {
+        return CacheStats.of("call-scripts", scriptCache.synchronous().estimatedSize(),
+                scriptCache.synchronous().stats());
+    }
 
-        // 2. Create request body: include all required fields for FastAPI
+    private Mono<FastApiResponse> requestCallScript(String userQuestion, String userLang) {
+        // All required fields for FastAPI, sent as JSON
         Map<String, String> request = Map.of(
                 "user_question", userQuestion,
-                "user_lang", "en"  // Mandatory language parameter required by FastAPI
+                "user_lang", userLang
         );
 
-        // 3. Combine request body and headers into HttpEntity
-        HttpEntity<Map<String, String>> entity = new HttpEntity<>(request, headers);
+        return webClients.getFastApi().post()
+                .uri("/api/callscript/help")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(FastApiResponse.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Empty call script response")))
+                // Writing the audio files blocks, so it runs off the event loop
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::storeAudio);
+    }
 
-        // 4. Execute POST request (send as JSON)
-        return restTemplate.postForObject(
-                fastApiUrl + "/api/callscript/help",
-                entity,
-                FastApiResponse.class
-        );
+    // Replaces every audio clip of the script with the URL of its stored copy
+    private FastApiResponse storeAudio(FastApiResponse script) {
+        script.setQuestion_ko_audio(audioBlobStore.store(script.getQuestion_ko_audio()));
+        if (script.getAnswers() != null) {
+            for (FastApiResponse.AnswerData answer : script.getAnswers()) {
+                answer.setAnswer_native_audio(audioBlobStore.store(answer.getAnswer_native_audio()));
+                answer.setAnswer_ko_audio(audioBlobStore.store(answer.getAnswer_ko_audio()));
+                answer.setKeywords_ko_audio(storeAll(answer.getKeywords_ko_audio()));
+                answer.setKeywords_native_audio(storeAll(answer.getKeywords_native_audio()));
+            }
+        }
+        return script;
+    }
+
+    private List<String> storeAll(List<String> clips) {
+        return clips != null ? clips.stream().map(audioBlobStore::store).toList() : null;
+    }
+
+    // Approximate size in bytes: the characters of every text and audio URL or inline clip
+    private static int weigh(FastApiResponse script) {
+        long chars = length(script.getUser_question()) + length(script.getQuestion_ko())
+                + length(script.getQuestion_ko_audio());
+        if (script.getAnswers() != null) {
+            for (FastApiResponse.AnswerData answer : script.getAnswers()) {
+                chars += length(answer.getAnswer_native()) + length(answer.getAnswer_native_audio())
+                        + length(answer.getAnswer_ko()) + length(answer.getAnswer_ko_audio())
+                        + length(answer.getKeywords_ko()) + length(answer.getKeywords_native())
+                        + length(answer.getKeywords_ko_audio()) + length(answer.getKeywords_native_audio());
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, chars);
+    }
+
+    private static long length(String text) {
+        return text != null ? text.length() : 0;
+    }
+
+    private static long length(List<String> texts) {
+        return texts != null ? texts.stream().mapToLong(FastApiClient::length).sum() : 0;
     }
 }
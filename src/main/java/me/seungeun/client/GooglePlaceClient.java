@@ -1,20 +1,30 @@
 package me.seungeun.client;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.seungeun.cache.Geohash;
 import me.seungeun.cache.VaccineHospitalCacheService;
 import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.dto.CacheStats;
 import me.seungeun.dto.HospitalDto;
 import me.seungeun.dto.googleplaces.GooglePlace;
 import me.seungeun.dto.googleplaces.GooglePlacesResponse;
 import me.seungeun.dto.googleplaces.GooglePlaceDetailResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,9 +36,98 @@ public class GooglePlaceClient {
     @Value("${google.api.key}")
     private String apiKey;
 
-    private final RestTemplate restTemplate;
+    // Non-blocking clients on the shared connection pool
+    private final UpstreamWebClients webClients;
     private final VaccineHospitalCacheService vaccineHospitalCacheService;
 
+    // Maximum number of Place Details requests of one nearby search in flight at the same time
+    @Value("${google.places.details.concurrency:10}")
+    private int detailsConcurrency;
+
+    // Time allowed for a single Place Details request, counted from when it starts
+    @Value("${google.places.details.call-timeout:PT3S}")
+    private Duration detailsCallTimeout;
+
+    // Time allowed for all Place Details requests of one nearby search
+    @Value("${google.places.details.deadline:PT5S}")
+    private Duration detailsDeadline;
+
+    // Maximum number of places kept in each details cache
+    @Value("${google.places.details.cache.max-size:5000}")
+    private long detailsCacheMaxSize;
+
+    // Lifetime of the static fields of a place (name, address, phone, location)
+    @Value("${google.places.details.cache.static-ttl:PT24H}")
+    private Duration detailsStaticTtl;
+
+    // Lifetime of the opening hours of a place
+    @Value("${google.places.details.cache.hours-ttl:PT1H}")
+    private Duration detailsHoursTtl;
+
+    // Fields requested from Place Details; anything else is neither used nor paid for
+    private static final String DETAILS_FIELDS = "place_id,name,vicinity,formatted_phone_number,geometry,opening_hours";
+
+    // placeId -> full place; its opening hours are served from hoursCache instead
+    private AsyncCache<String, GooglePlace> placeCache;
+
+    // placeId -> opening hours, expiring sooner and refreshed with an opening_hours-only request
+    private AsyncCache<String, CachedHours> hoursCache;
+
+    // Search radius of the Nearby Search in meters
+    private static final int NEARBY_RADIUS_METERS = 5000;
+
+    // Geohash precision of the nearby-search cache; 5 gives cells of about 5 km, matching the radius
+    @Value("${google.places.nearby.cache.precision:5}")
+    private int nearbyCachePrecision;
+
+    // Lifetime of a cached first page of nearby hospitals
+    @Value("${google.places.nearby.cache.ttl:PT10M}")
+    private Duration nearbyCacheTtl;
+
+    // Maximum number of cached cells
+    @Value("${google.places.nearby.cache.max-size:2000}")
+    private long nearbyCacheMaxSize;
+
+    // "geohash/radius" -> first page of the Nearby Search from the cell center
+    private AsyncCache<String, GooglePlacesResponse> nearbyCache;
+
+    @PostConstruct
+    void init() {
+        // Caffeine's size eviction is W-TinyLFU, so hospitals requested often survive one-off lookups
+        placeCache = Caffeine.newBuilder()
+                .maximumSize(detailsCacheMaxSize)
+                .expireAfterWrite(detailsStaticTtl)
+                .recordStats()
+                .buildAsync();
+        hoursCache = Caffeine.newBuilder()
+                .maximumSize(detailsCacheMaxSize)
+                .expireAfterWrite(detailsHoursTtl)
+                .recordStats()
+                .buildAsync();
+        nearbyCache = Caffeine.newBuilder()
+                .maximumSize(nearbyCacheMaxSize)
+                .expireAfter(new Expiry<String, GooglePlacesResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, GooglePlacesResponse response, long currentTime) {
+                        // Errors such as OVER_QUERY_LIMIT are handed to the waiting callers but not kept
+                        boolean cacheable = "OK".equals(response.getStatus()) || "ZERO_RESULTS".equals(response.getStatus());
+                        return cacheable ? nearbyCacheTtl.toNanos() : 0;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, GooglePlacesResponse response, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, response, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, GooglePlacesResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
     // Mapping of some English hospital names to their Korean equivalents for matching with cached data
     private static final Map<String, String> hospitalNameMap = Map.ofEntries(
             Map.entry("Severance Hospital", "연세대학교 세브란스병원"),
@@ -49,34 +148,122 @@ public class GooglePlaceClient {
      * @return List of HospitalDto containing hospital and vaccine info
      */
     public List<HospitalDto> getNearbyHospitals(double lat, double lng) {
+        GooglePlacesResponse response = searchNearbyHospitals(lat, lng, null);
 
-        // Build the Google Places Nearby Search API URL
-        String url = UriComponentsBuilder.fromHttpUrl("https://maps.googleapis.com/maps/api/place/nearbysearch/json")
-                .queryParam("location", lat + "," + lng)
-                .queryParam("radius", 5000)  // Search radius in meters
-                .queryParam("type", "hospital")
-                .queryParam("key", apiKey)
-                .toUriString();
+        List<String> placeIds = response.getResults().stream()
+                .map(GooglePlace::getPlace_id)
+                .toList();
 
-        // Fetch hospital search results from Google Places API
-        GooglePlacesResponse response = restTemplate.getForObject(url, GooglePlacesResponse.class);
+        // Fetch details of all hospitals concurrently and keep those with vaccine data
+        return getPlaceDetails(placeIds).stream()
+                .filter(hospital -> hospital.getVaccines() != null && !hospital.getVaccines().isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs a Google Places Nearby Search for hospitals without fetching any details.
+     * The result carries name, vicinity and location of up to 20 places, which is
+     * enough to rank them before paying for Place Details.
+     * First pages are cached per geohash cell: the search runs from the cell center,
+     * so every user in the cell shares one cached result, and concurrent searches in
+     * the same cell share one API call. Follow-up pages are never cached.
+     *
+     * @param lat Latitude coordinate
+     * @param lng Longitude coordinate
+     * @param pageToken next_page_token of a previous search, or null for the first page
+     * @return Nearby Search response with results and the next page token
+     */
+    public GooglePlacesResponse searchNearbyHospitals(double lat, double lng, String pageToken) {
+        return searchNearbyHospitalsAsync(lat, lng, pageToken).block();
+    }
 
-        if (response == null || response.getResults() == null) {
-            throw new RuntimeException("No nearby hospitals found.");
+    /**
+     * Non-blocking variant of searchNearbyHospitals with the same caching.
+     * @param lat Latitude coordinate
+     * @param lng Longitude coordinate
+     * @param pageToken next_page_token of a previous search, or null for the first page
+     * @return Nearby Search response with results and the next page token
+     */
+    public Mono<GooglePlacesResponse> searchNearbyHospitalsAsync(double lat, double lng, String pageToken) {
+        if (pageToken != null) {
+            return requestNearbyHospitals(builder -> builder.queryParam("pagetoken", pageToken));
         }
 
-        // For each hospital, fetch detailed info and filter those with vaccine data
-        return response.getResults().stream()
-                .map(place -> {
-                    try {
-                        return getPlaceDetails(place.getPlace_id());
-                    } catch (Exception e) {
-                        log.warn("Failed to fetch details for placeId {}: {}", place.getPlace_id(), e.getMessage());
-                        return null;
+        String cell = Geohash.encode(lat, lng, nearbyCachePrecision);
+        double[] center = Geohash.center(cell);
+        // A failed search completes the shared future exceptionally, which Caffeine does not keep
+        return Mono.defer(() -> Mono.fromFuture(nearbyCache.get(cell + "/" + NEARBY_RADIUS_METERS,
+                (key, executor) -> requestNearbyHospitals(builder -> builder
+                        .queryParam("location", center[0] + "," + center[1])
+                        .queryParam("radius", NEARBY_RADIUS_METERS)  // Search radius in meters
+                        .queryParam("type", "hospital"))
+                        .toFuture()), true));
+    }
+
+    // Fetches hospital search results from Google Places API
+    private Mono<GooglePlacesResponse> requestNearbyHospitals(Function<UriBuilder, UriBuilder> query) {
+        return webClients.getGoogle().get()
+                .uri(builder -> query.apply(builder.path("/nearbysearch/json"))
+                        .queryParam("key", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(GooglePlacesResponse.class)
+                .filter(response -> response.getResults() != null)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("No nearby hospitals found.")));
+    }
+
+    /**
+     * Retrieves details of several places concurrently, blocking until all are done or
+     * the deadline has passed.
+     *
+     * @param placeIds Google Place IDs
+     * @return HospitalDto list in the order of the given IDs, without failed places
+     */
+    public List<HospitalDto> getPlaceDetails(List<String> placeIds) {
+        return getPlaceDetailsAsync(placeIds).block();
+    }
+
+    /**
+     * Retrieves details of several places concurrently without blocking.
+     * At most the configured number of requests are in flight; each has its own timeout
+     * and all of them share one deadline. Places that fail or are not ready in time are
+     * left out, so the caller gets partial results instead of an error.
+     *
+     * @param placeIds Google Place IDs
+     * @return HospitalDto list in the order of the given IDs, without failed places
+     */
+    public Mono<List<HospitalDto>> getPlaceDetailsAsync(List<String> placeIds) {
+        return getPlaceDetailsAsync(placeIds, detailsDeadline);
+    }
+
+    /**
+     * Same as getPlaceDetailsAsync(List), but stops at the given deadline if it comes
+     * before the configured one, so a caller with a request budget gets partial results in time.
+     *
+     * @param placeIds Google Place IDs
+     * @param deadline time left for the caller
+     * @return HospitalDto list in the order of the given IDs, without failed places
+     */
+    public Mono<List<HospitalDto>> getPlaceDetailsAsync(List<String> placeIds, Duration deadline) {
+        Duration budget = deadline.compareTo(detailsDeadline) < 0 ? deadline : detailsDeadline;
+        AtomicInteger failed = new AtomicInteger();
+        return Flux.fromIterable(placeIds)
+                .flatMapSequential(placeId -> getPlaceDetailsAsync(placeId)
+                        .timeout(detailsCallTimeout)
+                        .onErrorResume(e -> {
+                            failed.incrementAndGet();
+                            log.warn("Failed to fetch details for placeId {}: {}", placeId, e.toString());
+                            return Mono.empty();
+                        }), Math.max(1, detailsConcurrency))
+                // Stops at the deadline with whatever arrived in order so far
+                .take(budget)
+                .collectList()
+                .doOnNext(hospitals -> {
+                    if (hospitals.size() < placeIds.size()) {
+                        log.warn("Place details incomplete: {} of {} places left out ({} failed, the rest missed the deadline)",
+                                placeIds.size() - hospitals.size(), placeIds.size(), failed.get());
                     }
-                })
-                .filter(hospital -> hospital != null && hospital.getVaccines() != null && !hospital.getVaccines().isEmpty())
-                .collect(Collectors.toList());
+                });
     }
 
     /**
@@ -87,25 +274,65 @@ public class GooglePlaceClient {
      * @return HospitalDto containing detailed hospital information
      */
     public HospitalDto getPlaceDetails(String placeId) {
-
-        // Build Place Details API URL
-        String url = "https://maps.googleapis.com/maps/api/place/details/json"
-                + "?place_id=" + placeId
-                + "&key=" + apiKey;
-
         try {
-            GooglePlaceDetailResponse response = restTemplate.getForObject(url, GooglePlaceDetailResponse.class);
-
-            if (response == null || response.getResult() == null) {
-                throw new RuntimeException("Hospital details not found.");
-            }
-
-            return convertToHospitalDto(response.getResult());
+            return getPlaceDetailsAsync(placeId).block();
         } catch (Exception e) {
             throw new RuntimeException("Error fetching hospital details", e);
         }
     }
 
+    /**
+     * Non-blocking variant of getPlaceDetails.
+     * Static fields and opening hours are cached separately with their own lifetimes;
+     * concurrent requests for the same uncached place share one API call.
+     *
+     * @param placeId Google Place ID
+     * @return HospitalDto containing detailed hospital information
+     */
+    public Mono<HospitalDto> getPlaceDetailsAsync(String placeId) {
+        Mono<GooglePlace> place = Mono.defer(() -> Mono.fromFuture(placeCache.get(placeId,
+                (key, executor) -> requestPlaceDetails(placeId, DETAILS_FIELDS)
+                        .doOnNext(loaded -> hoursCache.synchronous().put(placeId, new CachedHours(loaded.getOpeningHours())))
+                        .toFuture()), true));
+
+        // Read after the place, so a full load has already filled the hours cache
+        Mono<CachedHours> hours = Mono.defer(() -> Mono.fromFuture(hoursCache.get(placeId,
+                (key, executor) -> requestPlaceDetails(placeId, "opening_hours")
+                        .map(loaded -> new CachedHours(loaded.getOpeningHours()))
+                        .toFuture()), true));
+
+        return place.flatMap(loaded -> hours.map(cached -> convertToHospitalDto(loaded, cached.openingHours())));
+    }
+
+    // Calls the Place Details API for the given fields
+    private Mono<GooglePlace> requestPlaceDetails(String placeId, String fields) {
+        return webClients.getGoogle().get()
+                .uri(builder -> builder.path("/details/json")
+                        .queryParam("place_id", placeId)
+                        .queryParam("fields", fields)
+                        .queryParam("key", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(GooglePlaceDetailResponse.class)
+                .mapNotNull(GooglePlaceDetailResponse::getResult)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Hospital details not found.")));
+    }
+
+    public List<CacheStats> getCacheStats() {
+        return List.of(
+                CacheStats.of("place-details", placeCache.synchronous().estimatedSize(),
+                        placeCache.synchronous().stats()),
+                CacheStats.of("place-opening-hours", hoursCache.synchronous().estimatedSize(),
+                        hoursCache.synchronous().stats()),
+                CacheStats.of("nearby-search", nearbyCache.synchronous().estimatedSize(),
+                        nearbyCache.synchronous().stats())
+        );
+    }
+
+    // Cached opening hours; openingHours is null for places that publish none
+    private record CachedHours(GooglePlace.OpeningHours openingHours) {
+    }
+
     // Normalize a name by converting to lowercase and removing whitespace
     private String normalize(String name) {
         if (name == null) return "";
@@ -118,15 +345,17 @@ public class GooglePlaceClient {
      * and extracting relevant fields.
      *
      * @param place GooglePlace object from API
+     * @param openingHours current opening hours of the place, may be null
      * @return HospitalDto containing mapped hospital and vaccine info
      */
-    private HospitalDto convertToHospitalDto(GooglePlace place) {
+    private HospitalDto convertToHospitalDto(GooglePlace place, GooglePlace.OpeningHours openingHours) {
         // Map English hospital name to Korean equivalent if available
         String mappedName = hospitalNameMap.getOrDefault(place.getName(), place.getName());
         mappedName = normalize(mappedName);
 
-        // Retrieve cached vaccine info by normalized hospital name
-        VaccineInfo cached = vaccineHospitalCacheService.getBestMatchingHospital(mappedName);
+        // Retrieve cached vaccine info of the hospital with a close name around the place
+        VaccineInfo cached = vaccineHospitalCacheService.getBestMatchingHospital(mappedName,
+                place.getGeometry().getLocation().getLat(), place.getGeometry().getLocation().getLng());
 
         List<String> vaccines;
         if (cached != null && cached.getVaccines() != null) {
@@ -139,8 +368,8 @@ public class GooglePlaceClient {
 
         // Safely extract opening hours weekday text if present
         String weekdayText = null;
-        if (place.getOpeningHours() != null && place.getOpeningHours().getWeekdayText() != null) {
-            weekdayText = String.join(", ", place.getOpeningHours().getWeekdayText());
+        if (openingHours != null && openingHours.getWeekdayText() != null) {
+            weekdayText = String.join(", ", openingHours.getWeekdayText());
         }
 
         // Build and return HospitalDto with aggregated info
@@ -0,0 +1,93 @@
+package me.seungeun.client;
+
+import me.seungeun.dto.HttpPoolStats;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the state of the outbound connection pools: the Apache HttpClient pool behind
+ * the RestTemplates and the Reactor Netty pools behind the WebClients (one per remote host).
+ */
+@Component
+public class HttpPoolMetrics {
+
+    // "pool name|host:port" -> live metrics of a Reactor Netty pool
+    private final Map<String, ReactorPool> reactorPools = new ConcurrentHashMap<>();
+
+    // Pool shared by the RestTemplates, set when it is created
+    private volatile PoolingHttpClientConnectionManager restPool;
+
+    /**
+     * Returns a registrar for ConnectionProvider.Builder#metrics that records every
+     * per-host pool the provider creates.
+     * @return registrar keeping the pool metrics
+     */
+    public ConnectionProvider.MeterRegistrar reactorRegistrar() {
+        return (poolName, id, remoteAddress, metrics) ->
+                reactorPools.put(poolName + "|" + hostOf(remoteAddress), new ReactorPool(poolName, hostOf(remoteAddress), metrics));
+    }
+
+    public void registerRestPool(PoolingHttpClientConnectionManager manager) {
+        this.restPool = manager;
+    }
+
+    /**
+     * Reports leased, pending and idle connections of every pool, per remote host.
+     * @return one entry per pool and host, ordered by pool and host
+     */
+    public List<HttpPoolStats> getStats() {
+        List<HttpPoolStats> stats = new ArrayList<>();
+
+        PoolingHttpClientConnectionManager manager = restPool;
+        if (manager != null) {
+            stats.add(toStats("rest-template", "*", manager.getTotalStats()));
+            for (HttpRoute route : manager.getRoutes()) {
+                stats.add(toStats("rest-template", route.getTargetHost().toHostString(), manager.getStats(route)));
+            }
+        }
+
+        reactorPools.values().forEach(pool -> stats.add(HttpPoolStats.builder()
+                .pool(pool.name())
+                .host(pool.host())
+                .leased(pool.metrics().acquiredSize())
+                .pending(pool.metrics().pendingAcquireSize())
+                .idle(pool.metrics().idleSize())
+                .max(pool.metrics().maxAllocatedSize())
+                .build()));
+
+        stats.sort(Comparator.comparing(HttpPoolStats::getPool).thenComparing(HttpPoolStats::getHost));
+        return stats;
+    }
+
+    private static HttpPoolStats toStats(String pool, String host, PoolStats poolStats) {
+        return HttpPoolStats.builder()
+                .pool(pool)
+                .host(host)
+                .leased(poolStats.getLeased())
+                .pending(poolStats.getPending())
+                .idle(poolStats.getAvailable())
+                .max(poolStats.getMax())
+                .build();
+    }
+
+    private static String hostOf(SocketAddress address) {
+        return address instanceof InetSocketAddress inet
+                ? inet.getHostString() + ":" + inet.getPort()
+                : String.valueOf(address);
+    }
+
+    private record ReactorPool(String name, String host, ConnectionPoolMetrics metrics) {
+    }
+}
@@ -1,50 +1,139 @@
 package me.seungeun.client;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.seungeun.dto.CacheStats;
 import me.seungeun.dto.RegionInfo;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class KakaoMapClient {
 
-
-    // Create RestTemplate for making HTTP requests
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Non-blocking clients on the shared connection pool
+    private final UpstreamWebClients webClients;
 
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
     //Kakao REST API key (injected from config)
 
+    // Decimal places kept when quantizing coordinates for the region cache (3 = cells of about 100 m)
+    @Value("${kakao.region-cache.precision:3}")
+    private int cachePrecision;
+
+    // Maximum number of cached cells, least valuable cells are evicted first
+    @Value("${kakao.region-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // Lifetime of a successful lookup
+    @Value("${kakao.region-cache.ttl:PT24H}")
+    private Duration cacheTtl;
+
+    // Lifetime of a failed lookup, so a failing cell is not retried on every request
+    @Value("${kakao.region-cache.negative-ttl:PT1M}")
+    private Duration negativeCacheTtl;
+
+    // Quantized cell -> region lookup; concurrent lookups of the same cell share one future
+    private AsyncCache<Long, RegionLookup> regionCache;
+
+    @PostConstruct
+    void initCache() {
+        regionCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<Long, RegionLookup>() {
+                    @Override
+                    public long expireAfterCreate(Long key, RegionLookup lookup, long currentTime) {
+                        return (lookup.region() != null ? cacheTtl : negativeCacheTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long key, RegionLookup lookup, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, lookup, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, RegionLookup lookup, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns the administrative region of the coordinate, blocking until it is known.
+     * @param lat latitude coordinate
+     * @param lng longitude coordinate
+     * @return region info
+     * @throws RuntimeException if Kakao returns no region for the cell
+     */
     public RegionInfo getRegionInfo(double lat, double lng) {
-        // Build Kakao API URL for coordinate-to-region lookup
-        String url = "https://dapi.kakao.com/v2/local/geo/coord2regioncode.json"
-                + "?x=" + lng + "&y=" + lat;
+        return getRegionInfoAsync(lat, lng).block();
+    }
 
+    /**
+     * Returns the administrative region of the coordinate without blocking.
+     * Coordinates are rounded to a cell of the configured precision; every coordinate in
+     * the same cell shares one cached answer, and concurrent lookups of a cell that is
+     * not cached yet wait for a single Kakao call.
+     * @param lat latitude coordinate
+     * @param lng longitude coordinate
+     * @return region info, or an error if Kakao returns no region for the cell
+     */
+    public Mono<RegionInfo> getRegionInfoAsync(double lat, double lng) {
+        double scale = Math.pow(10, cachePrecision);
+        int cellLat = (int) Math.round(lat * scale);
+        int cellLng = (int) Math.round(lng * scale);
+        long key = ((long) cellLat << 32) | (cellLng & 0xffffffffL);
 
-        // Add Authorization header with API key
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
+        // Cancelling one caller must not cancel the lookup other callers are waiting for
+        return Mono.defer(() -> Mono.fromFuture(regionCache.get(key,
+                        (k, executor) -> requestRegionInfo(cellLat / scale, cellLng / scale).toFuture()), true))
+                .flatMap(lookup -> lookup.region() != null
+                        ? Mono.just(lookup.region())
+                        : Mono.error(new RuntimeException(lookup.error())));
+    }
 
-        // Make GET request to Kakao API and parse response to KakaoResponse
-        ResponseEntity<KakaoResponse> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, KakaoResponse.class
-        );
+    public CacheStats getCacheStats() {
+        return CacheStats.of("kakao-region", regionCache.synchronous().estimatedSize(),
+                regionCache.synchronous().stats());
+    }
 
-        // Convert first result in response to RegionInfo if available
-        if (response.getBody() != null && response.getBody().getDocuments().size() > 0) {
-            return response.getBody().getDocuments().get(0).toRegionInfo();
-        } else {
+    // Calls the Kakao API; failures are returned as a value so they are cached for a short time
+    private Mono<RegionLookup> requestRegionInfo(double lat, double lng) {
+        return webClients.getKakao().get()
+                // Coordinate-to-region lookup
+                .uri(builder -> builder.path("/v2/local/geo/coord2regioncode.json")
+                        .queryParam("x", lng)
+                        .queryParam("y", lat)
+                        .build())
+                // Add Authorization header with API key
+                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoApiKey)
+                .retrieve()
+                .bodyToMono(KakaoResponse.class)
+                // Convert first result in response to RegionInfo if available
+                .map(response -> response.getDocuments() != null && !response.getDocuments().isEmpty()
+                        ? new RegionLookup(response.getDocuments().get(0).toRegionInfo(), null)
+                        : new RegionLookup(null, "Location information search failed"))
+                .defaultIfEmpty(new RegionLookup(null, "Location information search failed"))
+                .onErrorResume(e -> {
+                    log.warn("Kakao region lookup failed for {}, {}: {}", lat, lng, e.getMessage());
+                    return Mono.just(new RegionLookup(null, "Location information search failed: " + e.getMessage()));
+                });
+    }
 
-            // Throw error if no region info found
-            throw new RuntimeException("Location information search failed");
-        }
+    // Cached lookup result: region on success, error message on failure
+    private record RegionLookup(RegionInfo region, String error) {
     }
 
     @lombok.Data
@@ -65,4 +154,3 @@ public class KakaoMapClient {
         }
     }
 }
-
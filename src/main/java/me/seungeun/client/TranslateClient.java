@@ -2,59 +2,197 @@ package me.seungeun.client;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.seungeun.cache.TranslationMemoryCache;
+import me.seungeun.client.TranslationPlanner.FieldKind;
 import me.seungeun.dto.HospitalDto;
 import me.seungeun.dto.TranslationResponse;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class TranslateClient {
 
-    // RestTemplate instance for HTTP calls
-    private final RestTemplate restTemplate = new RestTemplate();
+    // Non-blocking clients on the shared connection pool
+    private final UpstreamWebClients webClients;
+
+    // Previously translated texts, checked before calling the API
+    private final TranslationMemoryCache translationMemory;
 
     // Google Cloud Translation API key injected from application properties
     @Value("${translate.api.key}")
     private String apiKey;
 
+    // Maximum number of texts sent in one request (the v2 API accepts up to 128)
+    @Value("${translate.batch.max-segments:128}")
+    private int batchMaxSegments;
+
+    // Maximum total characters sent in one request
+    @Value("${translate.batch.max-chars:5000}")
+    private int batchMaxChars;
+
+    // Maximum number of batch requests of one call in flight at the same time
+    @Value("${translate.batch.concurrency:4}")
+    private int batchConcurrency;
+
     /**
      * Translates multiple text fields of a HospitalDto into the target language synchronously.
+     * The phone number and fields already in the target language are not sent.
      * @param dto HospitalDto containing original texts
      * @param targetLanguage target language code (e.g., "en", "ko")
      * @return Map with keys as field names and values as translated texts
      */
     public Map<String, String> translateAll(HospitalDto dto, String targetLanguage) {
+        return hospitalFields(dto, translateBatch(hospitalTexts(dto, targetLanguage), targetLanguage));
+    }
+
+    /**
+     * Returns the hospital fields that need the translation API, classified by field kind:
+     * the phone number is never translated, and the name and address are kept when they
+     * are already readable in the target language.
+     * @param dto HospitalDto containing original texts
+     * @param targetLanguage target language code
+     * @return texts to pass to translateBatch
+     */
+    public static List<String> hospitalTexts(HospitalDto dto, String targetLanguage) {
+        List<String> texts = new ArrayList<>(3);
+        addIfNeeded(texts, dto.getName(), FieldKind.PROPER_NOUN, targetLanguage);
+        addIfNeeded(texts, dto.getAddress(), FieldKind.PROPER_NOUN, targetLanguage);
+        addIfNeeded(texts, dto.getWeekday(), FieldKind.FREE_TEXT, targetLanguage);
+        return texts;
+    }
+
+    private static void addIfNeeded(List<String> texts, String text, FieldKind kind, String targetLanguage) {
+        if (TranslationPlanner.needsTranslation(text, kind, targetLanguage)) {
+            texts.add(text);
+        }
+    }
+
+    /**
+     * Picks the translated hospital fields out of a batch result.
+     * Fields that were not translated keep their original text.
+     * @param dto HospitalDto containing original texts
+     * @param translated source text -> translated text, as returned by translateBatch
+     * @return Map with keys as field names and values as translated texts
+     */
+    public static Map<String, String> hospitalFields(HospitalDto dto, Map<String, String> translated) {
         Map<String, String> translations = new HashMap<>();
 
-        translations.put("name", translate(dto.getName(), targetLanguage));
-        translations.put("address", translate(dto.getAddress(), targetLanguage));
-        translations.put("phone", translate(dto.getPhone(), targetLanguage));
-        translations.put("weekday", translate(dto.getWeekday(), targetLanguage));
+        translations.put("name", fieldText(dto.getName(), translated));
+        translations.put("address", fieldText(dto.getAddress(), translated));
+        translations.put("phone", dto.getPhone() != null ? dto.getPhone() : "");
+        translations.put("weekday", fieldText(dto.getWeekday(), translated));
 
         return translations;
     }
 
+    private static String fieldText(String original, Map<String, String> translated) {
+        if (original == null) return "";
+        return translated != null ? translated.getOrDefault(original, original) : original;
+    }
+
     /**
-     * Asynchronously translates all text fields of a HospitalDto.
-     * @param hospital HospitalDto object
-     * @param targetLang target language code
-     * @return CompletableFuture wrapping a Map of translated fields
+     * Translates many texts with as few requests as possible, blocking until done.
+     * @param texts texts to translate; nulls are ignored
+     * @param targetLanguage language code to translate into
+     * @return source text -> translated text for every given text
+     * @see #translateBatchAsync(Collection, String)
      */
-    public CompletableFuture<Map<String, String>> translateAllAsync(HospitalDto hospital, String targetLang) {
-        return CompletableFuture.supplyAsync(() -> translateAll(hospital, targetLang));
+    public Map<String, String> translateBatch(Collection<String> texts, String targetLanguage) {
+        return translateBatchAsync(texts, targetLanguage).block();
+    }
+
+    /**
+     * Translates many texts with as few requests as possible, without blocking.
+     * Texts without letters or already written in the target language, and texts found in
+     * the translation memory are not sent. Duplicates are sent once, and the remaining texts
+     * go out in concurrent batches bounded by segment count and total length. Texts that are
+     * not sent and texts of a failed batch map to themselves, as in translate; only
+     * successful translations are remembered, in the background after the result is returned.
+     * @param texts texts to translate; nulls are ignored
+     * @param targetLanguage language code to translate into
+     * @return source text -> translated text for every given text
+     */
+    public Mono<Map<String, String>> translateBatchAsync(Collection<String> texts, String targetLanguage) {
+        Map<String, String> result = new HashMap<>();
+        List<String> pending = new ArrayList<>();
+        for (String text : texts) {
+            if (text == null || result.containsKey(text)) continue;
+            result.put(text, text);
+            if (TranslationPlanner.needsTranslation(text, targetLanguage)) {
+                pending.add(text);
+            }
+        }
+
+        if (pending.isEmpty()) return Mono.just(result);
+
+        // The translation memory reads and writes the database, so it runs off the event loop
+        return Mono.fromCallable(() -> translationMemory.getAll(pending, targetLanguage))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(remembered -> {
+                    result.putAll(remembered);
+                    List<String> missing = pending.stream()
+                            .filter(text -> !remembered.containsKey(text))
+                            .toList();
+
+                    return Flux.fromIterable(toBatches(missing))
+                            .flatMap(batch -> requestTranslations(batch, targetLanguage)
+                                    .map(translations -> zip(batch, translations)), Math.max(1, batchConcurrency))
+                            .collect(HashMap<String, String>::new, Map::putAll);
+                })
+                .map(learned -> {
+                    remember(learned, targetLanguage);
+                    result.putAll(learned);
+                    return result;
+                });
+    }
+
+    // Stores new translations in the background, so the response never waits on the database insert
+    private void remember(Map<String, String> learned, String targetLanguage) {
+        if (learned.isEmpty()) return;
+        Mono.fromRunnable(() -> translationMemory.putAll(learned, targetLanguage))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("Failed to store {} translations: {}", learned.size(), e.getMessage()));
+    }
+
+    // Splits the texts into batches bounded by segment count and total length
+    private List<List<String>> toBatches(List<String> texts) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+        int batchChars = 0;
+        for (String text : texts) {
+            if (!batch.isEmpty() && (batch.size() >= batchMaxSegments || batchChars + text.length() > batchMaxChars)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchChars = 0;
+            }
+            batch.add(text);
+            batchChars += text.length();
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    // Pairs the texts of a successful batch with their translations
+    private static Map<String, String> zip(List<String> sources, List<String> translations) {
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < sources.size(); i++) {
+            result.put(sources.get(i), translations.get(i));
+        }
+        return result;
     }
 
     /**
@@ -72,47 +210,49 @@ public class TranslateClient {
      * Sends POST request with JSON payload and parses the translation response.
      * @param text text to translate
      * @param targetLanguage language code (e.g., "en", "ko")
-     * @return translated text or original text if empty or on failure
+     * @return translated text, or the original text if it needs no translation or on failure
      */
     public String translate(String text, String targetLanguage) {
-        if (text == null || text.isBlank()) return "";
-
-        try {
-            // Build URI for Google Translate API endpoint with API key query param
-            URI uri = UriComponentsBuilder
-                    .fromUriString("https://translation.googleapis.com/language/translate/v2")
-                    .queryParam("key", apiKey)
-                    .build()
-                    .toUri();
-
-            // Prepare request body with text, target language, and format
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("q", text);
-            requestBody.put("target", targetLanguage);
-            requestBody.put("format", "text");
-
-            // Set headers specifying JSON content type
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // Wrap request body and headers into HttpEntity
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            // Send POST request and map response to TranslationResponse DTO
-            TranslationResponse response = restTemplate.postForObject(uri, entity, TranslationResponse.class);
-
-            // Extract translated text if response is valid
-            if (response != null && response.getData() != null) {
-                List<TranslationResponse.Translation> translations = response.getData().getTranslations();
-                if (translations != null && !translations.isEmpty()) {
-                    return translations.get(0).getTranslatedText();
-                }
-            }
-        } catch (Exception e) {
-            log.error("translation failed: {}", e.getMessage());
-        }
+        if (text == null) return null;
+
+        // Return original text if translation fails
+        return translateBatch(List.of(text), targetLanguage).get(text);
+    }
+
+    /**
+     * Sends one request with several q values.
+     * @param texts non-blank texts, at most one batch
+     * @param targetLanguage language code
+     * @return translations in the order of texts, or empty if the request fails
+     */
+    private Mono<List<String>> requestTranslations(List<String> texts, String targetLanguage) {
+        // Prepare request body with texts, target language, and format
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("q", texts);
+        requestBody.put("target", targetLanguage);
+        requestBody.put("format", "text");
 
-        // Return original text if translation fails or input is empty
-        return text;
+        return webClients.getTranslate().post()
+                .uri(builder -> builder.queryParam("key", apiKey).build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(TranslationResponse.class)
+                // Translations come back in the order of the q values
+                .mapNotNull(response -> {
+                    List<TranslationResponse.Translation> translations =
+                            response.getData() != null ? response.getData().getTranslations() : null;
+                    if (translations == null || translations.size() != texts.size()) {
+                        log.error("translation failed: unexpected response for {} texts", texts.size());
+                        return null;
+                    }
+                    return translations.stream()
+                            .map(TranslationResponse.Translation::getTranslatedText)
+                            .toList();
+                })
+                .onErrorResume(e -> {
+                    log.error("translation failed: {}", e.getMessage());
+                    return Mono.empty();
+                });
     }
 }
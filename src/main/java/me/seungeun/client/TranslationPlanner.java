@@ -0,0 +1,109 @@
+package me.seungeun.client;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Decides locally which texts actually need the translation API.
+ *
+ * Texts without letters (phone numbers, opening hours made of digits, codes) and
+ * texts already written in the script of the target language come back unchanged.
+ * The script only identifies the language for Korean and Japanese; Latin script is
+ * shared by English, French, Vietnamese and many others, so Latin-script free text is
+ * always sent. Fields are classified by kind, so a hospital's phone number is never
+ * sent and a Latin-script name is kept as is for languages that are written in Latin script.
+ */
+public final class TranslationPlanner {
+
+    // Share of letters that must be in the target script for a text to count as already translated
+    private static final double SCRIPT_SHARE = 0.75;
+
+    // Languages written in Latin script; proper nouns in Latin script stay unchanged for them
+    private static final Set<String> LATIN_SCRIPT_LANGUAGES = Set.of(
+            "en", "vi", "fr", "de", "es", "it", "pt", "nl", "id", "ms", "tl", "fil", "tr", "pl", "uz");
+
+    private TranslationPlanner() {
+    }
+
+    /**
+     * Kind of a translated field.
+     */
+    public enum FieldKind {
+        NUMERIC,      // Phone numbers and codes; never translated
+        PROPER_NOUN,  // Names and addresses; kept when already readable in the target script
+        FREE_TEXT     // Sentences such as opening hours
+    }
+
+    /**
+     * Tells whether the text has to go to the translation API.
+     * @param text text to translate
+     * @param kind kind of the field the text comes from
+     * @param targetLanguage language code to translate into
+     * @return false if the text can be used as is
+     */
+    public static boolean needsTranslation(String text, FieldKind kind, String targetLanguage) {
+        if (text == null || text.isBlank() || kind == FieldKind.NUMERIC) return false;
+
+        ScriptCounts counts = ScriptCounts.of(text);
+        if (counts.letters == 0) return false;
+
+        String language = baseLanguage(targetLanguage);
+        if (kind == FieldKind.PROPER_NOUN && LATIN_SCRIPT_LANGUAGES.contains(language)
+                && counts.latin == counts.letters) {
+            return false;
+        }
+        return !isWrittenIn(counts, language);
+    }
+
+    /**
+     * Tells whether the text has to go to the translation API when nothing is known about its field.
+     * @param text text to translate
+     * @param targetLanguage language code to translate into
+     * @return false if the text can be used as is
+     */
+    public static boolean needsTranslation(String text, String targetLanguage) {
+        return needsTranslation(text, FieldKind.FREE_TEXT, targetLanguage);
+    }
+
+    // Only languages whose script identifies them are detected; others always go upstream
+    private static boolean isWrittenIn(ScriptCounts counts, String language) {
+        return switch (language) {
+            case "ko" -> counts.hangul >= counts.letters * SCRIPT_SHARE;
+            case "ja" -> counts.kana > 0 && counts.hangul == 0 && counts.kana + counts.han >= counts.letters * SCRIPT_SHARE;
+            default -> false;
+        };
+    }
+
+    // Language code without region, lowercase (e.g. "en-US" -> "en")
+    private static String baseLanguage(String language) {
+        if (language == null) return "";
+        String normalized = language.trim().toLowerCase(Locale.ROOT);
+        int dash = normalized.indexOf('-');
+        return dash > 0 ? normalized.substring(0, dash) : normalized;
+    }
+
+    // Letter counts per script
+    private static final class ScriptCounts {
+        int letters;
+        int hangul;
+        int kana;
+        int han;
+        int latin;
+
+        static ScriptCounts of(String text) {
+            ScriptCounts counts = new ScriptCounts();
+            text.codePoints().filter(Character::isLetter).forEach(cp -> {
+                counts.letters++;
+                switch (Character.UnicodeScript.of(cp)) {
+                    case HANGUL -> counts.hangul++;
+                    case HIRAGANA, KATAKANA -> counts.kana++;
+                    case HAN -> counts.han++;
+                    case LATIN -> counts.latin++;
+                    default -> {
+                    }
+                }
+            });
+            return counts;
+        }
+    }
+}
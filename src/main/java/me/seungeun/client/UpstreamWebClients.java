@@ -0,0 +1,19 @@
+package me.seungeun.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * WebClients of the external APIs and the model server, created in WebClientConfig.
+ * Each one has the base URL and timeouts of its upstream; all share one connection pool.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UpstreamWebClients {
+
+    private final WebClient kakao;      // Kakao Local API
+    private final WebClient google;     // Google Places API
+    private final WebClient translate;  // Google Cloud Translation API v2
+    private final WebClient fastApi;    // FastAPI model server, for streamed answers
+}
@@ -1,18 +1,130 @@
 package me.seungeun.config;
 
+import me.seungeun.client.HttpPoolMetrics;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
 
+/**
+ * Blocking HTTP clients for the public data portal and the FastAPI model server.
+ * Both RestTemplates share one keep-alive connection pool, with its own connection
+ * limit per upstream host, and have their own timeouts.
+ */
 @Configuration
 public class RestTemplateConfig {
 
-    @Bean // Registers a RestTemplate bean to be used in the application context
-    public RestTemplate restTemplate() {
-        return new RestTemplate(); // Creates a default RestTemplate for making HTTP requests
+    // Maximum open connections over all hosts
+    @Value("${http.rest.max-total:100}")
+    private int maxTotal;
+
+    // Maximum open connections to a host without its own limit
+    @Value("${http.rest.max-per-route:20}")
+    private int maxPerRoute;
+
+    // Pooled connections are replaced after this, so DNS changes are picked up
+    @Value("${http.rest.max-life-time:PT5M}")
+    private Duration maxLifeTime;
+
+    // Idle pooled connections are closed after this
+    @Value("${http.rest.max-idle-time:PT30S}")
+    private Duration maxIdleTime;
+
+    // Time a request may wait for a free pooled connection
+    @Value("${http.rest.connection-request-timeout:PT5S}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${publicdata.api.url:https://apis.data.go.kr/1790387/orglist3/getOrgList3}")
+    private String publicDataUrl;
+
+    // Enough for the bulk loader threads plus request-time lookups
+    @Value("${http.rest.publicdata.max-connections:16}")
+    private int publicDataMaxConnections;
+
+    @Value("${http.rest.publicdata.connect-timeout:PT3S}")
+    private Duration publicDataConnectTimeout;
+
+    @Value("${http.rest.publicdata.response-timeout:PT15S}")
+    private Duration publicDataResponseTimeout;
+
+    @Value("${fastapi.model.url}")
+    private String fastApiUrl;
+
+    @Value("${http.rest.fastapi.max-connections:20}")
+    private int fastApiMaxConnections;
+
+    @Value("${http.rest.fastapi.connect-timeout:PT3S}")
+    private Duration fastApiConnectTimeout;
+
+    // Model answers, image analysis and speech synthesis can take a while
+    @Value("${http.rest.fastapi.response-timeout:PT60S}")
+    private Duration fastApiResponseTimeout;
+
+    @Bean(destroyMethod = "close") // Closes the pooled connections on shutdown
+    public PoolingHttpClientConnectionManager restConnectionManager(HttpPoolMetrics httpPoolMetrics) {
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setConnectionTimeToLive(TimeValue.ofMilliseconds(maxLifeTime.toMillis()))
+                // Connections idle for a while are checked before reuse, so a connection closed by the server is not handed out
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+        manager.setMaxPerRoute(routeOf(publicDataUrl), publicDataMaxConnections);
+        manager.setMaxPerRoute(routeOf(fastApiUrl), fastApiMaxConnections);
+
+        httpPoolMetrics.registerRestPool(manager);
+        return manager;
     }
-}
 
+    @Bean // RestTemplate for the public data portal; injected wherever no other one is asked for
+    @Primary
+    public RestTemplate restTemplate(PoolingHttpClientConnectionManager restConnectionManager) {
+        return create(restConnectionManager, publicDataConnectTimeout, publicDataResponseTimeout, false);
+    }
+
+    @Bean // RestTemplate for the FastAPI model server; uploaded images are streamed, not buffered
+    public RestTemplate fastApiRestTemplate(PoolingHttpClientConnectionManager restConnectionManager) {
+        return create(restConnectionManager, fastApiConnectTimeout, fastApiResponseTimeout, true);
+    }
+
+    // RestTemplate on the shared pool with its own timeouts; a streamed request body is sent
+    // chunked as it is written instead of being collected in a byte array first
+    private RestTemplate create(PoolingHttpClientConnectionManager manager, Duration connectTimeout,
+                                Duration responseTimeout, boolean streamRequestBody) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(manager)
+                .setConnectionManagerShared(true)
+                .evictIdleConnections(TimeValue.ofMilliseconds(maxIdleTime.toMillis()))
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeout.toMillis()))
+                        .build())
+                .build();
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setBufferRequestBody(!streamRequestBody);
+        return new RestTemplate(requestFactory);
+    }
+
+    // Pool route of the host in the URL; the default port is filled in as the route planner does
+    private static HttpRoute routeOf(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+}
@@ -0,0 +1,120 @@
+package me.seungeun.config;
+
+import io.netty.channel.ChannelOption;
+import me.seungeun.client.HttpPoolMetrics;
+import me.seungeun.client.UpstreamWebClients;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking clients for the external APIs called while serving a request.
+ * Every upstream gets its own WebClient with its own timeouts, and all of them share
+ * one Reactor Netty connection pool, so connections are kept alive and reused instead
+ * of paying a TLS handshake per call.
+ */
+@Configuration
+public class WebClientConfig {
+
+    // Largest response body buffered in memory by default; Nearby Search pages are well below this
+    private static final int MAX_IN_MEMORY_BYTES = 2 * 1024 * 1024;
+
+    // Maximum open connections per remote host
+    @Value("${http.pool.max-connections:100}")
+    private int maxConnections;
+
+    // Requests allowed to wait for a free connection before new ones are rejected
+    @Value("${http.pool.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    // Time a request may wait for a free connection
+    @Value("${http.pool.pending-acquire-timeout:PT5S}")
+    private Duration pendingAcquireTimeout;
+
+    // Idle connections are closed after this, before the server closes them on its side
+    @Value("${http.pool.max-idle-time:PT30S}")
+    private Duration maxIdleTime;
+
+    // Connections are replaced after this, so DNS changes are picked up
+    @Value("${http.pool.max-life-time:PT5M}")
+    private Duration maxLifeTime;
+
+    @Value("${http.upstream.kakao.connect-timeout:PT2S}")
+    private Duration kakaoConnectTimeout;
+
+    @Value("${http.upstream.kakao.response-timeout:PT3S}")
+    private Duration kakaoResponseTimeout;
+
+    @Value("${http.upstream.google.connect-timeout:PT2S}")
+    private Duration googleConnectTimeout;
+
+    @Value("${http.upstream.google.response-timeout:PT5S}")
+    private Duration googleResponseTimeout;
+
+    @Value("${http.upstream.translate.connect-timeout:PT2S}")
+    private Duration translateConnectTimeout;
+
+    @Value("${http.upstream.translate.response-timeout:PT10S}")
+    private Duration translateResponseTimeout;
+
+    @Value("${fastapi.model.url}")
+    private String fastApiUrl;
+
+    @Value("${http.upstream.fastapi.connect-timeout:PT3S}")
+    private Duration fastApiConnectTimeout;
+
+    // Longest silence between two chunks of a streamed answer, including the wait for the first one
+    @Value("${http.upstream.fastapi.response-timeout:PT60S}")
+    private Duration fastApiResponseTimeout;
+
+    // Call scripts carry several base64 audio clips, far larger than the other upstreams' responses
+    @Value("${http.upstream.fastapi.max-in-memory-size:32MB}")
+    private DataSize fastApiMaxInMemorySize;
+
+    @Bean(destroyMethod = "dispose") // Closes the pooled connections on shutdown
+    public ConnectionProvider upstreamConnectionProvider(HttpPoolMetrics httpPoolMetrics) {
+        return ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true, httpPoolMetrics::reactorRegistrar)
+                .build();
+    }
+
+    @Bean
+    public UpstreamWebClients upstreamWebClients(WebClient.Builder builder, ConnectionProvider upstreamConnectionProvider) {
+        return new UpstreamWebClients(
+                create(builder, upstreamConnectionProvider, "https://dapi.kakao.com",
+                        kakaoConnectTimeout, kakaoResponseTimeout, MAX_IN_MEMORY_BYTES),
+                create(builder, upstreamConnectionProvider, "https://maps.googleapis.com/maps/api/place",
+                        googleConnectTimeout, googleResponseTimeout, MAX_IN_MEMORY_BYTES),
+                create(builder, upstreamConnectionProvider, "https://translation.googleapis.com/language/translate/v2",
+                        translateConnectTimeout, translateResponseTimeout, MAX_IN_MEMORY_BYTES),
+                create(builder, upstreamConnectionProvider, fastApiUrl,
+                        fastApiConnectTimeout, fastApiResponseTimeout, (int) fastApiMaxInMemorySize.toBytes()));
+    }
+
+    // WebClient on the shared pool with the upstream's base URL, timeouts and response buffer limit
+    private static WebClient create(WebClient.Builder builder, ConnectionProvider provider, String baseUrl,
+                                    Duration connectTimeout, Duration responseTimeout, int maxInMemoryBytes) {
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemoryBytes))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package me.seungeun.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Servlet-side settings for asynchronous responses such as the streamed chat answers
+ * and for multipart uploads.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // Longest time an asynchronous response may stay open; the container default (30s) cuts long answers short
+    @Value("${http.async.request-timeout:PT5M}")
+    private Duration asyncRequestTimeout;
+
+    // Largest uploaded file; phone camera photos are well above Boot's 1MB default
+    @Value("${spring.servlet.multipart.max-file-size:20MB}")
+    private DataSize maxFileSize;
+
+    // Largest multipart request, all parts together
+    @Value("${spring.servlet.multipart.max-request-size:25MB}")
+    private DataSize maxRequestSize;
+
+    // Parts above this size are spooled to a temporary file instead of being kept in memory
+    @Value("${spring.servlet.multipart.file-size-threshold:64KB}")
+    private DataSize fileSizeThreshold;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+
+    /**
+     * Multipart limits for uploaded images. Uploads larger than the threshold are parsed
+     * straight to disk and streamed from there to the model server, so the memory used per
+     * upload stays bounded; uploads over the limits are rejected with 413.
+     * @return multipart configuration replacing Boot's default one
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement() {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(maxRequestSize);
+        factory.setFileSizeThreshold(fileSizeThreshold);
+        return factory.createMultipartConfig();
+    }
+}
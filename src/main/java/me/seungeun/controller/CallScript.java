@@ -24,11 +24,21 @@ public class CallScript {
 
     public ResponseEntity<FastApiResponse> ask(@RequestBody Map<String, String> payload) {
 
-        // Extracts the "question" field from the payload
+        // Extracts the "question" field and the optional "language" field from the payload
         String userQuestion = payload.get("question");
-
-        // Sends the extracted question to the FastAPI server and receives a structured response
-        FastApiResponse response = fastApiClient.generateResponse(userQuestion);
+        String language = payload.get("language");
+
+        // Both become part of the call script cache key, so a missing question is rejected before it gets there
+        if (userQuestion == null || userQuestion.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        // A language sent as null or left empty means the default, like an omitted one
+        if (language == null || language.isBlank()) {
+            language = "en";
+        }
+
+        // Sends the extracted question to the FastAPI server (or the call script cache) and receives a structured response
+        FastApiResponse response = fastApiClient.generateResponse(userQuestion, language);
 
         System.out.println("Answers size: " + (response.getAnswers() == null ? 0 : response.getAnswers().size()));
 
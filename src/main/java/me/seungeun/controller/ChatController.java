@@ -5,9 +5,13 @@ import lombok.extern.slf4j.Slf4j;
 import me.seungeun.dto.ChatResponseDto;
 import me.seungeun.service.ChatService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController // Declares this class as a REST API controller
 @CrossOrigin(origins = "*") // Allows cross-origin requests from any domain
@@ -45,6 +49,34 @@ public class ChatController {
         return new ResponseEntity<>(responseDto, HttpStatus.OK); // Return 200 OK response
     }
 
+    /**
+     * Same as /free, but streams the answer as Server-Sent Events while the model generates it.
+     * Every "chunk" event carries the next piece of the answer in a ChatResponseDto; the stream
+     * ends with a "done" event, or with an "error" event if the model server fails. No servlet
+     * thread is held while waiting for the model.
+     *
+     * @param question user question text
+     * @param language requested language code (e.g. "ko", "en")
+     * @return event stream of answer chunks
+     */
+    @PostMapping(value = "/free/stream", consumes = "multipart/form-data", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatResponseDto>> streamFreeQuestion(
+            @RequestPart("question") String question,
+            @RequestPart("language") String language) {
+
+        log.info("Request received: /api/chat/free/stream, question={}, language={}", question, language);
+
+        return chatService.streamAnswerFromAI(question, language)
+                .map(chunk -> ServerSentEvent.builder(new ChatResponseDto(true, chunk)).event("chunk").build())
+                .concatWith(Mono.fromSupplier(() -> ServerSentEvent.builder(new ChatResponseDto(true, "")).event("done").build()))
+                .onErrorResume(e -> {
+                    log.error("Streaming AI answer failed: {}", e.getMessage());
+                    return Mono.just(ServerSentEvent.builder(new ChatResponseDto(false, "Failed to get AI answer."))
+                            .event("error")
+                            .build());
+                });
+    }
+
     /**
      * Handles POST requests with multipart/form-data for image and text,
      * queries AI with both, and returns the answer.
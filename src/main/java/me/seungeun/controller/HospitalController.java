@@ -3,6 +3,7 @@ package me.seungeun.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.seungeun.dto.HospitalDto;
+import me.seungeun.dto.NearbyHospitalPageDto;
 import me.seungeun.dto.publicdata.LocationRequestDto;
 import me.seungeun.dto.PlaceIdRequestDto;
 import me.seungeun.service.HospitalService;
@@ -18,6 +19,10 @@ import java.util.List;
 public class HospitalController {
     private final HospitalService hospitalService; // Service for handling hospital logic
 
+    // Upper bounds of the cached vaccine hospital search; larger values are clamped
+    private static final double MAX_VACCINE_RADIUS_METERS = 20_000;
+    private static final int MAX_VACCINE_LIMIT = 100;
+
     /**
      * Handles request for list of nearby hospitals.
      * @param request DTO containing location info (latitude, longitude)
@@ -29,6 +34,26 @@ public class HospitalController {
         return ResponseEntity.ok(hospitalService.findNearbyHospitals(request));
     }
 
+    /**
+     * Handles request for one page of nearby hospitals ("load more").
+     * @param request DTO containing location info (latitude, longitude)
+     * @param pageToken nextPageToken of the previous page, omitted for the first page
+     * @return hospitals of the page with the next page token, or HTTP 400 for an invalid token
+     */
+    @PostMapping("/nearby/page")
+    public ResponseEntity<NearbyHospitalPageDto> getNearbyHospitalPage(
+            @RequestBody LocationRequestDto request,
+            @RequestParam(required = false) String pageToken) {
+
+        log.info("Received nearby hospital page request: {}, pageToken={}", request, pageToken);
+        try {
+            return ResponseEntity.ok(hospitalService.findNearbyHospitalPage(request, pageToken));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid nearby page token: {}", pageToken);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Handles request for translated list of nearby hospitals.
      * @param request location info DTO
@@ -44,6 +69,29 @@ public class HospitalController {
         return ResponseEntity.ok(hospitalService.findTranslatedNearbyHospitals(request, targetLang));
     }
 
+    /**
+     * Handles request for vaccine hospitals near a location, answered from the local cache.
+     * @param request DTO containing location info (latitude, longitude)
+     * @param radius search radius in meters, at most 20 km
+     * @param limit maximum number of hospitals, at most 100
+     * @return nearest vaccine hospitals and HTTP 200 response, or HTTP 400 for a radius or limit below 1
+     */
+    @PostMapping("/vaccine/nearby")
+    public ResponseEntity<List<HospitalDto>> getNearbyVaccineHospitals(
+            @RequestBody LocationRequestDto request,
+            @RequestParam(defaultValue = "3000") double radius,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        log.info("Received nearby vaccine hospital request: {}, radius={}, limit={}", request, radius, limit);
+        // The grid scan grows with the square of the radius, so one request must not ask for the whole country
+        if (!(radius >= 1) || limit < 1) {
+            log.warn("Invalid nearby vaccine hospital query: radius={}, limit={}", radius, limit);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(hospitalService.findNearbyVaccineHospitals(request,
+                Math.min(radius, MAX_VACCINE_RADIUS_METERS), Math.min(limit, MAX_VACCINE_LIMIT)));
+    }
+
     /**
      * Handles request for details of a specific hospital.
      * @param request DTO containing placeId
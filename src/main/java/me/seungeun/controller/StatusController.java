@@ -0,0 +1,122 @@
+package me.seungeun.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.seungeun.cache.ChatAnswerCache;
+import me.seungeun.cache.RegionResolver;
+import me.seungeun.cache.TranslationMemoryCache;
+import me.seungeun.cache.VaccineDictionary;
+import me.seungeun.cache.VaccineHospitalCacheService;
+import me.seungeun.client.FastApiClient;
+import me.seungeun.client.GooglePlaceClient;
+import me.seungeun.client.HttpPoolMetrics;
+import me.seungeun.client.KakaoMapClient;
+import me.seungeun.dto.BulkLoadStatus;
+import me.seungeun.dto.CacheStats;
+import me.seungeun.dto.CacheRefreshStatus;
+import me.seungeun.dto.HttpPoolStats;
+import me.seungeun.dto.RegionCacheStats;
+import me.seungeun.dto.RegionLookupStats;
+import me.seungeun.dto.VaccineDictionaryStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/status") // Base path for cache and client status endpoints
+public class StatusController {
+
+    private final VaccineHospitalCacheService vaccineHospitalCacheService;
+
+    private final RegionResolver regionResolver;
+
+    private final KakaoMapClient kakaoMapClient;
+
+    private final GooglePlaceClient googlePlaceClient;
+
+    private final TranslationMemoryCache translationMemoryCache;
+
+    private final VaccineDictionary vaccineDictionary;
+
+    private final HttpPoolMetrics httpPoolMetrics;
+
+    private final ChatAnswerCache chatAnswerCache;
+
+    private final FastApiClient fastApiClient;
+
+    /**
+     * Reports size, age and hit rate of every region in the vaccine hospital cache.
+     * @return per-region cache statistics and HTTP 200 response
+     */
+    @GetMapping("/vaccine-cache/regions")
+    public ResponseEntity<List<RegionCacheStats>> getVaccineCacheRegions() {
+        return ResponseEntity.ok(vaccineHospitalCacheService.getRegionStats());
+    }
+
+    /**
+     * Reports progress of the last bulk load from the public data portal.
+     * @return bulk load status, or HTTP 204 if no load has started yet
+     */
+    @GetMapping("/vaccine-cache/bulk-load")
+    public ResponseEntity<BulkLoadStatus> getVaccineCacheBulkLoad() {
+        BulkLoadStatus status = vaccineHospitalCacheService.getBulkLoadStatus();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Reports refresh duration, last successful refresh and staleness of the vaccine hospital cache.
+     * @return refresh status and HTTP 200 response
+     */
+    @GetMapping("/vaccine-cache/refresh")
+    public ResponseEntity<CacheRefreshStatus> getVaccineCacheRefresh() {
+        return ResponseEntity.ok(vaccineHospitalCacheService.getRefreshStatus());
+    }
+
+    /**
+     * Reports how many coordinates were resolved to a district and how many of them failed.
+     * Hits of the underlying Kakao cell cache are reported by /caches.
+     * @return region lookup statistics and HTTP 200 response
+     */
+    @GetMapping("/region-lookup")
+    public ResponseEntity<RegionLookupStats> getRegionLookup() {
+        return ResponseEntity.ok(regionResolver.getStats());
+    }
+
+    /**
+     * Reports size, hit rate and evictions of the in-memory lookup caches.
+     * @return statistics of every cache and HTTP 200 response
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStats>> getCaches() {
+        List<CacheStats> caches = new ArrayList<>();
+        caches.add(kakaoMapClient.getCacheStats());
+        caches.addAll(googlePlaceClient.getCacheStats());
+        caches.addAll(translationMemoryCache.getCacheStats());
+        caches.addAll(chatAnswerCache.getCacheStats());
+        caches.add(fastApiClient.getCacheStats());
+        return ResponseEntity.ok(caches);
+    }
+
+    /**
+     * Reports how many vaccine labels were translated from the built-in dictionary and
+     * lists the labels it does not know yet, so they can be added to the dictionary file.
+     * @return dictionary statistics and HTTP 200 response
+     */
+    @GetMapping("/vaccine-dictionary")
+    public ResponseEntity<VaccineDictionaryStats> getVaccineDictionary() {
+        return ResponseEntity.ok(vaccineDictionary.getStats());
+    }
+
+    /**
+     * Reports leased, pending and idle connections of the outbound HTTP connection pools.
+     * @return one entry per pool and remote host, and HTTP 200 response
+     */
+    @GetMapping("/http-pools")
+    public ResponseEntity<List<HttpPoolStats>> getHttpPools() {
+        return ResponseEntity.ok(httpPoolMetrics.getStats());
+    }
+}
@@ -0,0 +1,18 @@
+package me.seungeun.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AdminRegion {
+    private String brtcCd; // Province or metropolitan city code (e.g., 1100000000)
+    private String si;     // Province or metropolitan city name (e.g., 서울특별시)
+    private String sggCd;  // District code (e.g., 11110)
+    private String gu;     // District name (e.g., 종로구)
+
+    // Key identifying the region in caches
+    public String getKey() {
+        return brtcCd + "/" + sggCd;
+    }
+}
@@ -0,0 +1,20 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class BulkLoadStatus {
+    private String runId;           // Identifier of the bulk load run
+    private Instant startedAt;      // Time the run was started
+    private Instant finishedAt;     // Time the last attempt finished, null while running
+    private int totalRegions;       // Number of regions in the run
+    private long completedRegions;  // Regions with all pages fetched
+    private long failedRegions;     // Regions whose last attempt failed
+    private long fetchedPages;      // Pages fetched so far
+    private long fetchedRecords;    // Hospital records fetched so far
+    private long retries;           // Requests retried after rate limits or server errors
+}
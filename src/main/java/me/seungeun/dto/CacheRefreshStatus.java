@@ -0,0 +1,21 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Data
+@Builder
+public class CacheRefreshStatus {
+    private Duration refreshInterval;       // Delay between scheduled refreshes
+    private boolean refreshing;             // True while a refresh is queued or running
+    private Instant lastRefreshStartedAt;   // Start time of the last refresh
+    private long lastRefreshDurationMs;     // Duration of the last refresh in milliseconds
+    private Instant lastRefreshSuccessAt;   // End time of the last refresh that loaded at least one region
+    private int lastRefreshedRegions;       // Regions loaded successfully in the last refresh
+    private int lastFailedRegions;          // Regions that failed and kept their previous data
+    private Instant snapshotCreatedAt;      // Time the current snapshot was published
+    private Instant oldestRegionLoadedAt;   // Load time of the stalest cached region
+}
@@ -0,0 +1,33 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheStats {
+    private String name;         // Cache name
+    private long size;           // Approximate number of entries
+    private long hitCount;       // Lookups answered from the cache
+    private long missCount;      // Lookups that had to load the value
+    private double hitRate;      // hitCount / (hitCount + missCount)
+    private long evictionCount;  // Entries removed because of size or expiry
+
+    /**
+     * Converts Caffeine statistics to the status response.
+     * @param name cache name
+     * @param size approximate number of entries
+     * @param stats Caffeine statistics snapshot
+     * @return cache statistics
+     */
+    public static CacheStats of(String name, long size, com.github.benmanes.caffeine.cache.stats.CacheStats stats) {
+        return CacheStats.builder()
+                .name(name)
+                .size(size)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.requestCount() == 0 ? 0.0 : stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
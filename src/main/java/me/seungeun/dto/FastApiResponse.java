@@ -10,7 +10,7 @@ import java.util.List;
 public class FastApiResponse {
     private String user_question;          // User's original question
     private String question_ko;            // Question translated to Korean
-    private String question_ko_audio;      // Korean audio version of the question
+    private String question_ko_audio;      // Korean audio version of the question (URL of the stored clip)
     private List<AnswerData> answers;      // List of answer data objects
 
     @Data
@@ -0,0 +1,15 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class HttpPoolStats {
+    private String pool;   // Connection pool name (rest-template or the WebClient pool)
+    private String host;   // Remote host:port, "*" for the totals of the RestTemplate pool
+    private int leased;    // Connections currently in use
+    private int pending;   // Requests waiting for a connection
+    private int idle;      // Open connections ready for reuse
+    private int max;       // Maximum connections for this host
+}
@@ -0,0 +1,13 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class NearbyHospitalPageDto {
+    private List<HospitalDto> hospitals;  // Hospitals of this page
+    private String nextPageToken;         // Token for the next page, null if there are no more hospitals
+}
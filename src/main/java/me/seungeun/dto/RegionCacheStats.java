@@ -0,0 +1,21 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class RegionCacheStats {
+    private String regionKey;     // brtcCd/sggCd
+    private String si;            // Province or metropolitan city name
+    private String gu;            // District name
+    private int size;             // Number of cached hospitals
+    private Instant loadedAt;     // Time the region was last loaded, null if never
+    private Long ageSeconds;      // Seconds since the last load, null if never loaded
+    private boolean fallback;     // True while the region is served from mock data
+    private long hits;            // Location lookups served from the cache
+    private long misses;          // Location lookups that found the region not loaded
+    private double hitRate;       // hits / (hits + misses)
+}
@@ -0,0 +1,11 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RegionLookupStats {
+    private long lookups;   // Coordinates resolved, each through the cached Kakao coord2regioncode lookup
+    private long failures;  // Lookups that failed or returned a district missing from the region table
+}
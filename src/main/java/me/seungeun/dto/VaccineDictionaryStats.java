@@ -0,0 +1,19 @@
+package me.seungeun.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class VaccineDictionaryStats {
+    private int vaccines;                    // Canonical vaccine codes in the dictionary
+    private int labels;                      // Portal labels mapped to a code
+    private List<String> languages;          // Languages with built-in translations
+    private long hits;                       // Labels translated from the dictionary
+    private long unknownLookups;             // Lookups of labels that map to no code
+    private long unsupportedLanguageLookups; // Known labels requested in a language without an entry
+    private Map<String, Long> unknownLabels; // Unknown label -> lookups, most frequent first
+}
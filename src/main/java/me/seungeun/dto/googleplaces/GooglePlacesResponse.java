@@ -1,5 +1,6 @@
 package me.seungeun.dto.googleplaces;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 import java.util.List;
@@ -8,4 +9,7 @@ import java.util.List;
 public class GooglePlacesResponse {
     private List<GooglePlace> results;  // List of GooglePlace results returned from API
     private String status;              // API response status code (e.g., "OK", "ZERO_RESULTS")
+
+    @JsonProperty("next_page_token")
+    private String nextPageToken;       // Token for the next 20 results, absent on the last page
 }
@@ -0,0 +1,15 @@
+package me.seungeun.repository;
+
+import me.seungeun.Entity.TranslationMemory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemory, Long> {
+
+    // Stored translations of the given source hashes into one language
+    List<TranslationMemory> findByTargetLanguageAndSourceHashIn(String targetLanguage, Collection<String> sourceHashes);
+}
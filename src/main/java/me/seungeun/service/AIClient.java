@@ -1,9 +1,8 @@
 package me.seungeun.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
@@ -18,12 +17,17 @@ import java.util.HashMap;
 @Component
 public class AIClient {
 
+    // Pooled RestTemplate with the FastAPI timeouts
+    private final RestTemplate restTemplate;
+
     @Value("${fastapi.model.url}")
     private String fastapiModelUrl;
 
-    public boolean sendToAI(String vaccine_ko, String vaccine_en, String period, MultipartFile image) throws IOException {
-        RestTemplate restTemplate = new RestTemplate();
+    public AIClient(@Qualifier("fastApiRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
 
+    public boolean sendToAI(String vaccine_ko, String vaccine_en, String period, MultipartFile image) throws IOException {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
@@ -32,13 +36,8 @@ public class AIClient {
         multipartBody.add("vaccine_en", vaccine_en);
         multipartBody.add("period", period);
 
-        Resource imageResource = new ByteArrayResource(image.getBytes()) {
-            @Override
-            public String getFilename() {
-                return image.getOriginalFilename();
-            }
-        };
-        multipartBody.add("image", imageResource);
+        // Streamed from the stored upload while the request is written, so the image is never copied onto the heap
+        multipartBody.add("image", image.getResource());
 
         HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(multipartBody, headers);
 
@@ -1,18 +1,27 @@
 package me.seungeun.service;
 
+import me.seungeun.cache.ChatAnswerCache;
+import me.seungeun.client.UpstreamWebClients;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 @Service
 public class ChatService {
@@ -24,19 +33,35 @@ public class ChatService {
     @Value("${fastapi.model.url}")
     private String fastapiModelUrl;
 
-    // Constructor-based injection for RestTemplate
-    public ChatService(RestTemplate restTemplate){
+    // Non-blocking clients; the FastAPI one relays streamed answers
+    private final UpstreamWebClients webClients;
+
+    // Answers of earlier questions, so repeated questions skip the model
+    private final ChatAnswerCache answerCache;
+
+    // Constructor-based injection for the pooled FastAPI RestTemplate and WebClient
+    public ChatService(@Qualifier("fastApiRestTemplate") RestTemplate restTemplate, UpstreamWebClients webClients,
+                       ChatAnswerCache answerCache){
         this.restTemplate = restTemplate;
+        this.webClients = webClients;
+        this.answerCache = answerCache;
     }
 
     /**
      * Sends text question and language info to FastAPI /chat endpoint and returns AI response.
+     * Answers to the same or a near-identical earlier question in the same language come
+     * from the answer cache; only successful answers are cached.
      *
      * @param user_text User's question text
      * @param user_lang Requested language code (e.g., "ko", "en")
      * @return AI-generated answer string
      */
     public String getAnswerFromAI(String user_text, String user_lang) {
+        String cached = answerCache.find(user_text, user_lang);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             // Prepare request body as form data
             MultiValueMap<String, String> requestBody = new LinkedMultiValueMap<>();
@@ -59,7 +84,8 @@ public class ChatService {
             System.out.println("Request Body: " + requestBody.toString());
             System.out.println("Request: " + request);
 
-            // Return response body
+            // Cache and return response body
+            answerCache.put(user_text, user_lang, response.getBody());
             return response.getBody();
 
         } catch (Exception e) {
@@ -68,6 +94,72 @@ public class ChatService {
         }
     }
 
+    /**
+     * Sends the question to the FastAPI /chat endpoint and relays the answer chunk by chunk
+     * as the model generates it, without holding a thread while waiting.
+     * A text/event-stream answer is relayed event by event; any other answer is relayed as
+     * its body arrives, with multi-byte characters split across network reads kept whole.
+     *
+     * @param user_text User's question text
+     * @param user_lang Requested language code (e.g., "ko", "en")
+     * @return answer chunks in order; fails if FastAPI cannot be reached or answers with an error
+     */
+    public Flux<String> streamAnswerFromAI(String user_text, String user_lang) {
+        MultiValueMap<String, String> requestBody = new LinkedMultiValueMap<>();
+        requestBody.add("user_text", user_text);
+        requestBody.add("user_lang", user_lang);
+
+        return webClients.getFastApi().post()
+                .uri("/chat")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .accept(MediaType.TEXT_EVENT_STREAM, MediaType.ALL)
+                .body(BodyInserters.fromFormData(requestBody))
+                .exchangeToFlux(response -> {
+                    if (response.statusCode().isError()) {
+                        return response.createException().flatMapMany(Flux::error);
+                    }
+                    boolean eventStream = response.headers().contentType()
+                            .map(MediaType.TEXT_EVENT_STREAM::isCompatibleWith)
+                            .orElse(false);
+                    if (eventStream) {
+                        return response.bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                                .mapNotNull(ServerSentEvent::data);
+                    }
+                    return decodeUtf8(response.bodyToFlux(DataBuffer.class));
+                })
+                .filter(chunk -> !chunk.isEmpty());
+    }
+
+    // Decodes body chunks as UTF-8, carrying the bytes of a character cut at a chunk boundary to the next chunk
+    private static Flux<String> decodeUtf8(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            byte[][] carry = {new byte[0]};
+            return body.map(buffer -> {
+                        byte[] bytes = Arrays.copyOf(carry[0], carry[0].length + buffer.readableByteCount());
+                        buffer.read(bytes, carry[0].length, buffer.readableByteCount());
+                        DataBufferUtils.release(buffer);
+
+                        int complete = completeLength(bytes);
+                        carry[0] = Arrays.copyOfRange(bytes, complete, bytes.length);
+                        return new String(bytes, 0, complete, StandardCharsets.UTF_8);
+                    })
+                    .concatWith(Flux.defer(() -> Flux.just(new String(carry[0], StandardCharsets.UTF_8))));
+        });
+    }
+
+    // Length of the prefix ending with a whole UTF-8 character
+    private static int completeLength(byte[] bytes) {
+        // The last lead byte is at most 3 bytes from the end
+        for (int i = bytes.length - 1; i >= Math.max(0, bytes.length - 4); i--) {
+            int b = bytes[i] & 0xFF;
+            if ((b & 0xC0) == 0x80) continue; // Continuation byte
+
+            int length = b < 0x80 ? 1 : b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : 2;
+            return i + length > bytes.length ? i : bytes.length;
+        }
+        return bytes.length;
+    }
+
     /**
      * Sends text, image, and language info as multipart/form-data to FastAPI /vision endpoint and returns AI response.
      *
@@ -87,14 +179,9 @@ public class ChatService {
             body.add("user_text", user_text);
             body.add("user_lang", language);
 
-            // Convert MultipartFile to ByteArrayResource and add to request body if present
+            // Add the upload as a resource streamed while the request is written, if present
             if (image != null && !image.isEmpty()) {
-                body.add("image", new ByteArrayResource(image.getBytes()) {
-                    @Override
-                    public String getFilename() {
-                        return image.getOriginalFilename();
-                    }
-                });
+                body.add("image", image.getResource());
             }
 
             // Create HttpEntity with multipart body and headers
@@ -108,9 +195,6 @@ public class ChatService {
             // Return response body
             return response.getBody();
 
-        } catch (IOException e) {
-            System.err.println("An error occurred while processing the image: " + e.getMessage());
-            return "An error occurred while processing the image.";
         } catch (Exception e) {
             System.err.println("FastAPI image-based question API call failed: " + e.getMessage());
             return "Failed to get AI answer.";
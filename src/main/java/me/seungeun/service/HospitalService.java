@@ -1,17 +1,31 @@
 package me.seungeun.service;
 
 import lombok.extern.slf4j.Slf4j;
+import me.seungeun.cache.VaccineDictionary;
 import me.seungeun.cache.VaccineHospitalCacheService;
 import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
 import me.seungeun.client.GooglePlaceClient;
 import me.seungeun.client.TranslateClient;
 import me.seungeun.dto.HospitalDto;
+import me.seungeun.dto.NearbyHospitalPageDto;
 import me.seungeun.dto.PlaceIdRequestDto;
+import me.seungeun.dto.googleplaces.GooglePlace;
+import me.seungeun.dto.googleplaces.GooglePlacesResponse;
 import me.seungeun.dto.publicdata.LocationRequestDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,14 +35,17 @@ public class HospitalService {
     private final GooglePlaceClient googlePlaceClient;
     private final TranslateClient translateClient;
     private final VaccineHospitalCacheService vaccineHospitalCacheService;
+    private final VaccineDictionary vaccineDictionary;
 
     @Autowired
     public HospitalService(GooglePlaceClient googlePlaceClient,
                            TranslateClient translateClient,
-                           VaccineHospitalCacheService vaccineHospitalCacheService) {
+                           VaccineHospitalCacheService vaccineHospitalCacheService,
+                           VaccineDictionary vaccineDictionary) {
         this.googlePlaceClient = googlePlaceClient;
         this.translateClient = translateClient;
         this.vaccineHospitalCacheService = vaccineHospitalCacheService;
+        this.vaccineDictionary = vaccineDictionary;
     }
 
     // Mapping of English hospital names to Korean for matching with cached data
@@ -41,98 +58,238 @@ public class HospitalService {
             Map.entry("Kangbuk Samsung Hospital", "강북삼성병원")
     );
 
+    // Shown instead of the vaccine list when no vaccine information is found
+    private static final String CONTACT_MESSAGE = "병원에 문의해주세요";
+
+    // Languages whose untranslated vaccine labels are sent to the translation API at startup
+    @Value("${translate.memory.prewarm-languages:en}")
+    private List<String> prewarmLanguages;
+
+    // Hospitals returned per nearby page
+    private static final int NEARBY_PAGE_SIZE = 10;
+
+    // Time budget of one nearby page, from the first call to the translated result
+    @Value("${hospital.nearby.deadline:PT8S}")
+    private Duration nearbyDeadline;
+
+    /**
+     * Translates the fixed contact message and the vaccine labels missing from the vaccine
+     * dictionary into every prewarm language once the application is up, so the first
+     * requests find them in the translation memory. Runs in the background and does not
+     * delay startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarmTranslations() {
+        CompletableFuture.runAsync(() -> {
+            Set<String> labels = vaccineHospitalCacheService.getVaccineLabels();
+            for (String language : prewarmLanguages) {
+                List<String> vocabulary = labels.stream()
+                        .filter(label -> vaccineDictionary.translate(label, language.trim()) == null)
+                        .collect(Collectors.toCollection(ArrayList::new));
+                vocabulary.add(CONTACT_MESSAGE);
+                translateClient.translateBatch(vocabulary, language.trim());
+                log.info("Translation memory prewarmed for {}: {} texts", language.trim(), vocabulary.size());
+            }
+        }).exceptionally(e -> {
+            log.warn("Translation prewarm failed", e);
+            return null;
+        });
+    }
+
     // Find nearby hospitals with vaccine info and translated fields
     public List<HospitalDto> findNearbyHospitals(LocationRequestDto request) {
-        double lat = request.getLat();
-        double lng = request.getLng();
+        return findNearbyHospitalPage(request, null).getHospitals();
+    }
 
-        List<HospitalDto> hospitals = googlePlaceClient.getNearbyHospitals(lat, lng);
-        List<VaccineInfo> vaccineInfos = vaccineHospitalCacheService.fetchHospitalsByLocation(lat, lng);
-        if (vaccineInfos == null) {
-            vaccineInfos = List.of();
-        }
-        final List<VaccineInfo> finalVaccineInfos = vaccineInfos;
-
-        String contactMessage = "병원에 문의해주세요";
-        String translatedContactMessage = translateClient.translate(contactMessage, request.getLanguage());
-
-        return hospitals.stream()
-                .limit(10)
-                .map(h -> {
-                    try {
-                        String originalName = h.getName();
-                        String mappedName = hospitalNameMap.getOrDefault(originalName, originalName);
-                        String googleName = normalize(mappedName);
-
-                        VaccineInfo match = finalVaccineInfos.stream()
-                                .filter(info -> {
-                                    String googleNameNorm = normalize(mappedName);
-                                    String publicNameNorm = normalize(info.getCenterName());
-
-                                    log.debug("Comparing hospital names - Google: {}, Public: {}", googleNameNorm, publicNameNorm);
-
-                                    return googleNameNorm.contains(publicNameNorm) || publicNameNorm.contains(googleNameNorm);
-                                })
-                                .findFirst()
-                                .orElse(null);
-
-                        if (match != null && match.getVaccines() != null && !match.getVaccines().isEmpty()) {
-                            List<String> translatedVaccines = translateVaccines(match.getVaccines(), request.getLanguage());
-                            h.setVaccines(translatedVaccines);
-                        } else {
-                            h.setVaccines(List.of(translatedContactMessage));
-                        }
-
-                        Map<String, String> translated = translateClient.translateAll(h, request.getLanguage());
-                        return HospitalDto.from(h, translated);
-
-                    } catch (Exception e) {
-                        log.error("Error during hospital processing: " + h.getName(), e);
-                        return HospitalDto.from(h, Map.of("name", h.getName()));
-                    }
-                })
-                .collect(Collectors.toList());
+    // Find one page of nearby hospitals; pageToken comes from the previous page, null for the first one
+    public NearbyHospitalPageDto findNearbyHospitalPage(LocationRequestDto request, String pageToken) {
+        return findNearbyPage(request, pageToken, request.getLanguage()).block();
     }
 
     // Find nearby hospitals with translation into target language
     public List<HospitalDto> findTranslatedNearbyHospitals(LocationRequestDto request, String targetLang) {
+        return findNearbyPage(request, null, targetLang).block().getHospitals();
+    }
+
+    /**
+     * Builds one page of nearby hospitals.
+     * Hospitals are matched with the vaccine cache and ranked using only the Nearby Search
+     * payload; Place Details are fetched afterwards, and only for the hospitals on the page.
+     * A hospital matches the cached hospital with a close name a few hundred meters around
+     * its coordinate, and has no vaccine information when there is none.
+     *
+     * Independent steps run concurrently, so the latency is that of the longest chain
+     * (Nearby Search, Place Details, field translation) rather than the sum of all calls:
+     * the Nearby Search and the contact message translation start together, and the
+     * vaccine label translation runs alongside Place Details.
+     * The whole page shares one deadline; steps still running when it passes are
+     * dropped (details) or left untranslated (vaccine labels, fields), and only a
+     * Nearby Search that misses it fails the request.
+     * @param request location and language for vaccine names
+     * @param pageToken token of the page to build, null for the first page
+     * @param targetLang language for the translated hospital fields
+     * @return hospitals of the page and the token of the next one
+     */
+    private Mono<NearbyHospitalPageDto> findNearbyPage(LocationRequestDto request, String pageToken, String targetLang) {
         double lat = request.getLat();
         double lng = request.getLng();
-
-        List<HospitalDto> hospitals = googlePlaceClient.getNearbyHospitals(lat, lng);
-        List<VaccineInfo> vaccineInfos = vaccineHospitalCacheService.fetchHospitalsByLocation(lat, lng);
-        if (vaccineInfos == null) {
-            vaccineInfos = List.of();
+        String vaccineLang = request.getLanguage();
+
+        // Our token wraps Google's page token and the offset inside that Google page
+        String googlePageToken;
+        int offset;
+        if (pageToken != null && !pageToken.isBlank()) {
+            String[] parts = decodePageToken(pageToken);
+            offset = Integer.parseInt(parts[0]);
+            googlePageToken = parts[1].isEmpty() ? null : parts[1];
+        } else {
+            offset = 0;
+            googlePageToken = null;
         }
-        final List<VaccineInfo> finalVaccineInfos = vaccineInfos;
 
-        String contactMessage = "병원에 문의해주세요";
-        String translatedContactMessage = translateClient.translate(contactMessage, request.getLanguage());
+        long deadline = System.nanoTime() + nearbyDeadline.toNanos();
+
+        Mono<GooglePlacesResponse> search = googlePlaceClient.searchNearbyHospitalsAsync(lat, lng, googlePageToken)
+                .timeout(remaining(deadline));
+        // Needed by every hospital without vaccine information, and known before anything is matched
+        Mono<Map<String, String>> contactMessage = withinDeadline(
+                translateClient.translateBatchAsync(List.of(CONTACT_MESSAGE), vaccineLang), deadline, Map.of());
 
-        return hospitals.stream()
-                .map(h -> {
-                    try {
-                        String originalName = h.getName();
-                        String mappedName = hospitalNameMap.getOrDefault(originalName, originalName);
+        return Mono.zip(search, contactMessage).flatMap(started -> {
+            GooglePlacesResponse response = started.getT1();
 
-                        VaccineInfo match = findClosestMatch(mappedName, finalVaccineInfos);
+            // Hospitals with vaccine information first; the sort is stable, so Google's order is kept otherwise
+            List<RankedPlace> ranked = new ArrayList<>();
+            for (GooglePlace place : response.getResults()) {
+                ranked.add(new RankedPlace(place, findCachedMatch(place)));
+            }
+            ranked.sort(Comparator.comparing(rankedPlace -> !hasVaccines(rankedPlace.match())));
+
+            int from = Math.min(offset, ranked.size());
+            int to = Math.min(from + NEARBY_PAGE_SIZE, ranked.size());
+            List<RankedPlace> page = ranked.subList(from, to);
+
+            String nextPageToken = null;
+            if (to < ranked.size()) {
+                nextPageToken = encodePageToken(to, googlePageToken);
+            } else if (response.getNextPageToken() != null) {
+                nextPageToken = encodePageToken(0, response.getNextPageToken());
+            }
+            String next = nextPageToken;
+
+            // Vaccine labels are known from the match alone, so they do not wait for Place Details
+            List<String> vaccineTexts = new ArrayList<>();
+            page.forEach(rankedPlace -> collectVaccineTexts(rankedPlace.match(), vaccineLang, vaccineTexts));
+            Mono<Map<String, String>> vaccineTranslations = withinDeadline(
+                    translateClient.translateBatchAsync(vaccineTexts, vaccineLang), deadline, Map.of())
+                    .map(translated -> merge(started.getT2(), translated));
+
+            // Place Details only for the hospitals actually returned, then their fields in one batch
+            Mono<Map<String, HospitalDto>> details = googlePlaceClient.getPlaceDetailsAsync(page.stream()
+                            .map(rankedPlace -> rankedPlace.place().getPlace_id())
+                            .toList(), remaining(deadline))
+                    .map(hospitals -> hospitals.stream()
+                            .collect(Collectors.toMap(HospitalDto::getPlaceId, h -> h, (a, b) -> a)));
+            Mono<Tuple2<Map<String, HospitalDto>, Map<String, String>>> translatedDetails = details
+                    .flatMap(found -> {
+                        List<String> fieldTexts = new ArrayList<>();
+                        found.values().forEach(h -> fieldTexts.addAll(TranslateClient.hospitalTexts(h, targetLang)));
+                        return withinDeadline(translateClient.translateBatchAsync(fieldTexts, targetLang),
+                                deadline, Map.<String, String>of())
+                                .map(fieldTranslations -> Tuples.of(found, fieldTranslations));
+                    });
+
+            return Mono.zip(translatedDetails, vaccineTranslations).map(done -> {
+                Map<String, HospitalDto> found = done.getT1().getT1();
+                List<HospitalDto> hospitals = page.stream()
+                        .filter(rankedPlace -> found.containsKey(rankedPlace.place().getPlace_id()))
+                        .map(rankedPlace -> {
+                            HospitalDto h = found.get(rankedPlace.place().getPlace_id());
+                            try {
+                                return applyTranslations(h, rankedPlace.match(), vaccineLang,
+                                        done.getT2(), done.getT1().getT2());
+
+                            } catch (Exception e) {
+                                log.error("Error during hospital processing: " + h.getName(), e);
+                                return HospitalDto.from(h, Map.of("name", h.getName()));
+                            }
+                        })
+                        .collect(Collectors.toList());
+
+                return NearbyHospitalPageDto.builder()
+                        .hospitals(hospitals)
+                        .nextPageToken(next)
+                        .build();
+            });
+        });
+    }
+
+    // Time left until the deadline, never negative
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
 
-                        if (match != null) {
-                            List<String> translatedVaccines = translateVaccines(match.getVaccines(), request.getLanguage());
-                            h.setVaccines(translatedVaccines);
-                        } else {
-                            h.setVaccines(List.of(translatedContactMessage));
-                        }
+    // Falls back to the given value when the step is not done by the deadline
+    private static <T> Mono<T> withinDeadline(Mono<T> step, long deadline, T fallback) {
+        return step.timeout(remaining(deadline))
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("Nearby step missed the request deadline, continuing without it");
+                    return Mono.just(fallback);
+                });
+    }
+
+    // Cached vaccine hospital of a Nearby Search result, null if none nearby has a close name
+    private VaccineInfo findCachedMatch(GooglePlace place) {
+        String mappedName = hospitalNameMap.getOrDefault(place.getName(), place.getName());
+        GooglePlace.Geometry.Location location = place.getGeometry().getLocation();
+        return vaccineHospitalCacheService.getBestMatchingHospital(mappedName, location.getLat(), location.getLng());
+    }
 
-                        Map<String, String> translated = translateClient.translateAll(h, targetLang);
-                        return HospitalDto.from(h, translated);
+    private static Map<String, String> merge(Map<String, String> first, Map<String, String> second) {
+        Map<String, String> merged = new HashMap<>(first);
+        merged.putAll(second);
+        return merged;
+    }
 
-                    } catch (Exception e) {
-                        log.error("Error during hospital processing: " + h.getName(), e);
-                        return HospitalDto.from(h, Map.of("name", h.getName()));
-                    }
+    // Nearby Search result with its cached vaccine hospital, null if none matched
+    private record RankedPlace(GooglePlace place, VaccineInfo match) {
+    }
+
+    private static boolean hasVaccines(VaccineInfo info) {
+        return info != null && info.getVaccines() != null && !info.getVaccines().isEmpty();
+    }
+
+    // Page token format: base64url("offset:googlePageToken")
+    private static String encodePageToken(int offset, String googlePageToken) {
+        String raw = offset + ":" + (googlePageToken != null ? googlePageToken : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns {offset, googlePageToken}; throws IllegalArgumentException for a malformed token
+    private static String[] decodePageToken(String pageToken) {
+        String raw = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+        String[] parts = raw.split(":", 2);
+        if (parts.length != 2 || !parts[0].matches("\\d{1,3}")) {
+            throw new IllegalArgumentException("Invalid page token");
+        }
+        return parts;
+    }
+
+    // Find cached vaccine hospitals near the location, nearest first, without calling external APIs
+    public List<HospitalDto> findNearbyVaccineHospitals(LocationRequestDto request, double radiusMeters, int limit) {
+        return vaccineHospitalCacheService.findNearbyHospitals(request.getLat(), request.getLng(), radiusMeters, limit)
+                .stream()
+                .map(neighbor -> {
+                    VaccineInfo info = neighbor.info();
+                    return HospitalDto.builder()
+                            .name(info.getCenterName())
+                            .address(info.getAddress())
+                            .phone(info.getTel())
+                            .lat(info.getLat())
+                            .lng(info.getLng())
+                            .vaccines(info.getVaccines())
+                            .build();
                 })
-                .limit(10)
                 .collect(Collectors.toList());
     }
 
@@ -145,21 +302,12 @@ public class HospitalService {
         String googleName = detail.getName();
         String mappedName = hospitalNameMap.getOrDefault(googleName, googleName);
 
-        VaccineInfo cached = vaccineHospitalCacheService.getBestMatchingHospital(normalize(mappedName));
+        // Same coordinate-aware match as the nearby list, so a chain name resolves to this branch
+        VaccineInfo cached = vaccineHospitalCacheService.getBestMatchingHospital(mappedName,
+                detail.getLat(), detail.getLng());
         log.info("Cached vaccine info for '{}': {}", mappedName, cached != null ? "FOUND" : "NOT FOUND");
 
-        String contactMessage = "병원에 문의해주세요";
-        String translatedContactMessage = translateClient.translate(contactMessage, request.getLanguage());
-
-        if (cached != null) {
-            List<String> translatedVaccines = translateVaccines(cached.getVaccines(), request.getLanguage());
-            detail.setVaccines(translatedVaccines);
-        } else {
-            detail.setVaccines(List.of(translatedContactMessage));
-        }
-
-        Map<String, String> translated = translateClient.translateAll(detail, request.getLanguage());
-        return HospitalDto.from(detail, translated);
+        return translateHospital(detail, cached, request.getLanguage(), request.getLanguage());
     }
 
     // Get translated detailed hospital info
@@ -171,68 +319,72 @@ public class HospitalService {
         String googleName = detail.getName();
         String mappedName = hospitalNameMap.getOrDefault(googleName, googleName);
 
-        VaccineInfo cached = vaccineHospitalCacheService.getBestMatchingHospital(normalize(mappedName));
+        // Same coordinate-aware match as the nearby list, so a chain name resolves to this branch
+        VaccineInfo cached = vaccineHospitalCacheService.getBestMatchingHospital(mappedName,
+                detail.getLat(), detail.getLng());
         if (cached != null) {
             log.info("Found vaccine info for hospital {}: {}", mappedName, cached.getVaccines());
         } else {
             log.warn("No vaccine info found for hospital {}", mappedName);
         }
 
-        String contactMessage = "병원에 문의해주세요";
-        String translatedContactMessage = translateClient.translate(contactMessage, targetLang);
-
-        if (cached != null) {
-            List<String> translatedVaccines = translateVaccines(cached.getVaccines(), targetLang);
-            detail.setVaccines(translatedVaccines);
-        } else {
-            detail.setVaccines(List.of(translatedContactMessage));
-        }
-
         try {
-            Map<String, String> translated = translateClient.translateAll(detail, targetLang);
-            return HospitalDto.from(detail, translated);
+            return translateHospital(detail, cached, targetLang, targetLang);
         } catch (Exception e) {
             log.error("Hospital detailed translation failed: {}", detail.getName(), e);
             return HospitalDto.from(detail, Map.of("name", detail.getName()));
         }
     }
 
-    // Normalize hospital names: lowercase and remove whitespace
-    private String normalize(String name) {
-        if (name == null) return "";
-        return name.toLowerCase().replaceAll("\\s+", "");
-    }
-
-    // Find closest matching VaccineInfo by Levenshtein distance
-    private VaccineInfo findClosestMatch(String googleName, List<VaccineInfo> candidates) {
-        String normalizedGoogle = normalize(googleName);
-        return candidates.stream()
-                .min(Comparator.comparingInt(info -> levenshtein(normalizedGoogle, normalize(info.getCenterName()))))
-                .orElse(null);
-    }
-
-    // Simple Levenshtein distance implementation
-    private int levenshtein(String a, String b) {
-        int[] costs = new int[b.length() + 1];
-        for (int j = 0; j < costs.length; j++) costs[j] = j;
-        for (int i = 1; i <= a.length(); i++) {
-            costs[0] = i;
-            int nw = i - 1;
-            for (int j = 1; j <= b.length(); j++) {
-                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
-                        a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
-                nw = costs[j];
-                costs[j] = cj;
-            }
+    // Translates vaccines and fields of a single hospital, one batch per language
+    private HospitalDto translateHospital(HospitalDto h, VaccineInfo match, String vaccineLang, String fieldLang) {
+        Map<String, List<String>> textsByLanguage = new HashMap<>();
+        collectTexts(h, match, vaccineLang, fieldLang, textsByLanguage);
+        Map<String, Map<String, String>> translations = translateByLanguage(textsByLanguage);
+        return applyTranslations(h, match, vaccineLang, translations.get(vaccineLang), translations.get(fieldLang));
+    }
+
+    // Adds the texts of one hospital to the per-language lists; vaccine labels only if the dictionary lacks them
+    private void collectTexts(HospitalDto h, VaccineInfo match, String vaccineLang, String fieldLang,
+                              Map<String, List<String>> textsByLanguage) {
+        collectVaccineTexts(match, vaccineLang, textsByLanguage.computeIfAbsent(vaccineLang, lang -> new ArrayList<>()));
+        textsByLanguage.computeIfAbsent(fieldLang, lang -> new ArrayList<>())
+                .addAll(TranslateClient.hospitalTexts(h, fieldLang));
+    }
+
+    // Adds the vaccine labels the dictionary lacks, or the contact message if there are none
+    private void collectVaccineTexts(VaccineInfo match, String vaccineLang, List<String> vaccineTexts) {
+        if (hasVaccines(match)) {
+            match.getVaccines().stream()
+                    .filter(vaccine -> !vaccineDictionary.canTranslate(vaccine, vaccineLang))
+                    .forEach(vaccineTexts::add);
+        } else {
+            vaccineTexts.add(CONTACT_MESSAGE);
         }
-        return costs[b.length()];
     }
 
-    // Translate list of vaccine names to target language
-    private List<String> translateVaccines(List<String> vaccines, String targetLang) {
-        if (vaccines == null || vaccines.isEmpty()) return List.of();
-        return vaccines.stream()
-                .map(v -> translateClient.translate(v, targetLang))
-                .collect(Collectors.toList());
+    // Translates the collected texts with one batch per target language
+    private Map<String, Map<String, String>> translateByLanguage(Map<String, List<String>> textsByLanguage) {
+        Map<String, Map<String, String>> translations = new HashMap<>();
+        textsByLanguage.forEach((lang, texts) -> translations.put(lang, translateClient.translateBatch(texts, lang)));
+        return translations;
+    }
+
+    // Sets the translated vaccines (or the contact message) and returns the hospital with translated fields.
+    // Vaccine labels come from the dictionary; the batch translations only cover labels it does not know.
+    private HospitalDto applyTranslations(HospitalDto h, VaccineInfo match, String vaccineLang,
+                                          Map<String, String> vaccineTranslations,
+                                          Map<String, String> fieldTranslations) {
+        if (hasVaccines(match)) {
+            h.setVaccines(match.getVaccines().stream()
+                    .map(vaccine -> {
+                        String translated = vaccineDictionary.translate(vaccine, vaccineLang);
+                        return translated != null ? translated : vaccineTranslations.getOrDefault(vaccine, vaccine);
+                    })
+                    .collect(Collectors.toList()));
+        } else {
+            h.setVaccines(List.of(vaccineTranslations.getOrDefault(CONTACT_MESSAGE, CONTACT_MESSAGE)));
+        }
+        return HospitalDto.from(h, TranslateClient.hospitalFields(h, fieldTranslations));
     }
 }
@@ -0,0 +1,33 @@
+package me.seungeun.cache;
+
+import me.seungeun.dto.AdminRegion;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AdminRegionRegistryTest {
+
+    private final AdminRegionRegistry registry = new AdminRegionRegistry();
+
+    @Test
+    void findsSejongWithoutDistrictName() {
+        AdminRegion sejong = registry.find("세종특별자치시", "");
+
+        assertEquals("세종시", sejong.getGu());
+        assertEquals(sejong, registry.find("세종특별자치시", null));
+        assertEquals(sejong, registry.findByAddress("세종특별자치시 한누리대로 2130"));
+    }
+
+    @Test
+    void emptyDistrictOfOtherProvincesMatchesNothing() {
+        assertNull(registry.find("서울특별시", ""));
+        assertNull(registry.find("경기도", " "));
+    }
+
+    @Test
+    void findsCityOfSubDistrict() {
+        assertEquals("종로구", registry.find("서울", "종로구").getGu());
+        assertEquals("수원시", registry.find("경기도", "수원시 장안구").getGu());
+    }
+}
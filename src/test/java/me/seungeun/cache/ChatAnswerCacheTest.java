@@ -0,0 +1,93 @@
+package me.seungeun.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ChatAnswerCacheTest {
+
+    private static final String ANSWER = "cached answer";
+
+    @Test
+    void similarityLayerIsOffByDefault() throws NoSuchFieldException {
+        assertEquals("${chat.answer-cache.similarity.enabled:false}", valueOf("similarityEnabled"));
+        assertEquals("${chat.answer-cache.similarity.threshold:0.9}", valueOf("similarityThreshold"));
+
+        ChatAnswerCache cache = cache(false, 0.9);
+        cache.put("독감 예방접종과 코로나 예방접종을 같은 날 맞아도 되나요?", "ko", ANSWER);
+
+        assertNull(cache.find("독감 예방 접종과 코로나 예방접종을 같은날 맞아도 되나요", "ko"));
+    }
+
+    @Test
+    void exactLayerIgnoresCaseAndPunctuation() {
+        ChatAnswerCache cache = cache(false, 0.9);
+        cache.put("Can I get the flu vaccine and the COVID vaccine on the same day?", "en", ANSWER);
+
+        assertEquals(ANSWER, cache.find("can i get the flu vaccine and the covid vaccine on the same day!!", "en"));
+        assertNull(cache.find("can i get the flu vaccine and the covid vaccine on the same day", "ko"));
+    }
+
+    @Test
+    void similarQuestionsMatchWhenEnabled() {
+        ChatAnswerCache cache = cache(true, 0.9);
+        cache.put("Can I get the flu vaccine and the COVID vaccine on the same day?", "en", ANSWER);
+        cache.put("독감 예방접종과 코로나 예방접종을 같은 날 맞아도 되나요?", "ko", ANSWER);
+
+        assertEquals(ANSWER, cache.find("Can I get the flu vacine and the COVID vaccine on the same day?", "en"));
+        assertEquals(ANSWER, cache.find("독감 예방 접종과 코로나 예방접종을 같은날 맞아도 되나요", "ko"));
+    }
+
+    // The counter-examples below are compared at the former 0.8 threshold, so only the guard can reject them
+
+    @Test
+    void differentSingleLetterWordsNeverMatch() {
+        ChatAnswerCache cache = cache(true, 0.8);
+        cache.put("Can I get the hepatitis A vaccine and the flu vaccine on the same day?", "en", ANSWER);
+
+        assertNull(cache.find("Can I get the hepatitis B vaccine and the flu vaccine on the same day?", "en"));
+    }
+
+    @Test
+    void negatedQuestionsNeverMatch() {
+        ChatAnswerCache cache = cache(true, 0.8);
+        cache.put("Should I get the MMR vaccine if I am pregnant?", "en", ANSWER);
+        cache.put("Which vaccines do I need before traveling to Southeast Asia?", "en", ANSWER);
+        cache.put("Is it safe to get the flu shot when I'm sick?", "en", ANSWER);
+        cache.put("임신 중에 독감 예방접종을 맞아도 되나요?", "ko", ANSWER);
+        cache.put("아이가 열이 나도 예방접종을 맞을 수 있나요?", "ko", ANSWER);
+
+        assertNull(cache.find("Should I get the MMR vaccine if I am not pregnant?", "en"));
+        assertNull(cache.find("Which vaccines do I not need before traveling to Southeast Asia?", "en"));
+        assertNull(cache.find("Isn't it safe to get the flu shot when I'm sick?", "en"));
+        assertNull(cache.find("임신 중에 독감 예방접종을 맞지 않아도 되나요?", "ko"));
+        assertNull(cache.find("아이가 열이 나도 예방접종을 안 맞을 수 있나요?", "ko"));
+    }
+
+    @Test
+    void differentNumbersNeverMatch() {
+        ChatAnswerCache cache = cache(true, 0.8);
+        cache.put("Do children under 9 need 2 doses of the flu vaccine?", "en", ANSWER);
+
+        assertNull(cache.find("Do children under 9 need 3 doses of the flu vaccine?", "en"));
+    }
+
+    private static ChatAnswerCache cache(boolean similarityEnabled, double threshold) {
+        ChatAnswerCache cache = new ChatAnswerCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(cache, "similarityEnabled", similarityEnabled);
+        ReflectionTestUtils.setField(cache, "similarityThreshold", threshold);
+        cache.init();
+        return cache;
+    }
+
+    private static String valueOf(String field) throws NoSuchFieldException {
+        return ChatAnswerCache.class.getDeclaredField(field).getAnnotation(Value.class).value();
+    }
+}
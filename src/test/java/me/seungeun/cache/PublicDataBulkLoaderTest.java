@@ -0,0 +1,249 @@
+package me.seungeun.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.seungeun.cache.BulkLoadProgress.RegionProgress;
+import me.seungeun.cache.BulkLoadProgress.State;
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.dto.AdminRegion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the bulk loader against a local stub of the getOrgList3 API.
+ */
+class PublicDataBulkLoaderTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final AdminRegion JONGNO = new AdminRegion("1100000000", "서울특별시", "11110", "종로구");
+    private static final AdminRegion JUNG = new AdminRegion("1100000000", "서울특별시", "11140", "중구");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer server;
+    private PublicDataBulkLoader loader;
+
+    // sggCd -> number of hospitals the stub serves for the region
+    private final Map<String, Integer> regionSizes = new ConcurrentHashMap<>();
+
+    // Scripted failures, served in order before the regular pages
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+
+    // "sggCd/pageNo" of every request, in arrival order
+    private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getOrgList3", this::handle);
+        server.start();
+
+        loader = new PublicDataBulkLoader(new RestTemplate());
+        ReflectionTestUtils.setField(loader, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(loader, "apiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/getOrgList3");
+        ReflectionTestUtils.setField(loader, "pageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(loader, "concurrency", 2);
+        ReflectionTestUtils.setField(loader, "maxAttempts", 4);
+        ReflectionTestUtils.setField(loader, "backoffMillis", 1L);
+        ReflectionTestUtils.setField(loader, "maxBackoffMillis", 5L);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetchesEveryPageOfEveryRegion() {
+        regionSizes.put(JONGNO.getSggCd(), 250);
+        regionSizes.put(JUNG.getSggCd(), 100);
+
+        Map<String, List<VaccineInfo>> loaded = new ConcurrentHashMap<>();
+        BulkLoadProgress progress = loader.run(new BulkLoadProgress(List.of(JONGNO, JUNG)),
+                (region, records) -> loaded.put(region.getKey(), records));
+
+        assertTrue(progress.isComplete());
+        assertEquals(250, loaded.get(JONGNO.getKey()).size());
+        assertEquals(100, loaded.get(JUNG.getKey()).size());
+        assertEquals("11110-249", loaded.get(JONGNO.getKey()).get(249).getCenterName());
+
+        // 3 pages for 250 records; 1 page for 100 since the total count is reached
+        assertEquals(4, progress.toStatus().getFetchedPages());
+        assertEquals(350, progress.toStatus().getFetchedRecords());
+        assertEquals(0, progress.toStatus().getRetries());
+    }
+
+    @Test
+    void retriesRateLimitsAndServerErrors() {
+        regionSizes.put(JONGNO.getSggCd(), 150);
+        failures.add(Failure.withStatus(503));
+        failures.add(Failure.withStatus(429));
+        failures.add(Failure.quotaExceeded());
+
+        List<VaccineInfo> records = new ArrayList<>();
+        BulkLoadProgress progress = loader.run(new BulkLoadProgress(List.of(JONGNO)),
+                (region, loaded) -> records.addAll(loaded));
+
+        assertTrue(progress.isComplete());
+        assertEquals(150, records.size());
+        assertEquals(3, progress.toStatus().getRetries());
+        assertEquals(2, progress.toStatus().getFetchedPages());
+    }
+
+    @Test
+    void resumesFailedRegionFromThePageWhereItStopped() {
+        regionSizes.put(JONGNO.getSggCd(), 250);
+        regionSizes.put(JUNG.getSggCd(), 50);
+        BulkLoadProgress progress = new BulkLoadProgress(List.of(JONGNO, JUNG));
+
+        // Page 2 of 종로구 keeps failing until the attempts are used up
+        for (int i = 0; i < 4; i++) {
+            failures.add(Failure.withStatus(500).on(JONGNO.getSggCd(), 2));
+        }
+
+        List<AdminRegion> loaded = new ArrayList<>();
+        loader.run(progress, (region, records) -> loaded.add(region));
+
+        assertEquals(List.of(JUNG), loaded);
+        assertEquals(List.of(JONGNO), progress.getFailedRegions());
+        RegionProgress failed = progress.remaining().get(0);
+        assertEquals(State.FAILED, failed.state);
+        assertEquals(2, failed.nextPage);
+
+        requests.clear();
+        Map<String, Integer> sizes = new ConcurrentHashMap<>();
+        loader.run(progress, (region, records) -> sizes.put(region.getKey(), records.size()));
+
+        assertTrue(progress.isComplete());
+        assertEquals(Map.of(JONGNO.getKey(), 250), sizes);
+        // Page 1 is not requested again and the completed region is skipped
+        assertEquals(List.of("11110/2", "11110/3"), List.copyOf(requests));
+    }
+
+    @Test
+    void nextRunRetriesUnfinishedRegionsAlongWithNewOnes() {
+        regionSizes.put(JONGNO.getSggCd(), 250);
+        regionSizes.put(JUNG.getSggCd(), 50);
+        for (int i = 0; i < 4; i++) {
+            failures.add(Failure.withStatus(500).on(JONGNO.getSggCd(), 2));
+        }
+        BulkLoadProgress first = loader.run(new BulkLoadProgress(List.of(JONGNO)), (region, records) -> {
+        });
+        assertEquals(List.of(JONGNO), first.getFailedRegions());
+
+        requests.clear();
+        Map<String, Integer> sizes = new ConcurrentHashMap<>();
+        BulkLoadProgress next = loader.run(new BulkLoadProgress(List.of(JUNG), first),
+                (region, records) -> sizes.put(region.getKey(), records.size()));
+
+        assertTrue(next.isComplete());
+        assertEquals(Map.of(JONGNO.getKey(), 250, JUNG.getKey(), 50), sizes);
+        assertTrue(requests.containsAll(List.of("11110/2", "11110/3", "11140/1")));
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    void failsRegionAfterAllAttempts() {
+        regionSizes.put(JONGNO.getSggCd(), 10);
+        for (int i = 0; i < 4; i++) {
+            failures.add(Failure.withStatus(502));
+        }
+
+        BulkLoadProgress progress = loader.run(new BulkLoadProgress(List.of(JONGNO)), (region, records) -> {
+        });
+
+        assertEquals(List.of(JONGNO), progress.getFailedRegions());
+        assertEquals(3, progress.toStatus().getRetries());
+        assertEquals(0, progress.toStatus().getFetchedPages());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Map<String, List<String>> params = UriComponentsBuilder.fromUri(exchange.getRequestURI())
+                .build().getQueryParams();
+        String sggCd = params.get("sggCd").get(0);
+        int pageNo = Integer.parseInt(params.get("pageNo").get(0));
+        int rows = Integer.parseInt(params.get("numOfRows").get(0));
+        requests.add(sggCd + "/" + pageNo);
+
+        Failure failure = failures.peek();
+        if (failure != null && failure.matches(sggCd, pageNo) && failures.remove(failure)) {
+            respond(exchange, failure.status(), failure.body());
+            return;
+        }
+
+        int total = regionSizes.getOrDefault(sggCd, 0);
+        List<Map<String, Object>> data = new ArrayList<>();
+        for (int i = (pageNo - 1) * rows; i < Math.min(total, pageNo * rows); i++) {
+            data.add(Map.of(
+                    "centerName", sggCd + "-" + i,
+                    "address", "서울특별시 " + sggCd,
+                    "vaccine", List.of("인플루엔자"),
+                    "lat", 37.5 + i * 1e-4,
+                    "lng", 127.0
+            ));
+        }
+        respond(exchange, 200, objectMapper.writeValueAsString(Map.of(
+                "data", data,
+                "totalCount", total,
+                "currentCount", data.size()
+        )));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type",
+                body.startsWith("<") ? "application/xml" : "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    /**
+     * Scripted stub response, served to the first matching request.
+     * @param status HTTP status
+     * @param body response body
+     * @param sggCd district code it applies to, null for any
+     * @param pageNo page it applies to, 0 for any
+     */
+    private record Failure(int status, String body, String sggCd, int pageNo) {
+
+        static Failure withStatus(int status) {
+            return new Failure(status, "{}", null, 0);
+        }
+
+        // Quota errors come back as 200 with an XML body
+        static Failure quotaExceeded() {
+            return new Failure(200, "<OpenAPI_ServiceResponse><cmmMsgHeader><returnAuthMsg>"
+                    + "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR</returnAuthMsg></cmmMsgHeader>"
+                    + "</OpenAPI_ServiceResponse>", null, 0);
+        }
+
+        Failure on(String sggCd, int pageNo) {
+            return new Failure(status, body, sggCd, pageNo);
+        }
+
+        boolean matches(String sggCd, int pageNo) {
+            return (this.sggCd == null || this.sggCd.equals(sggCd)) && (this.pageNo == 0 || this.pageNo == pageNo);
+        }
+    }
+}
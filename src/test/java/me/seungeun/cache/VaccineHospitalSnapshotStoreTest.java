@@ -0,0 +1,84 @@
+package me.seungeun.cache;
+
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.cache.VaccineHospitalSnapshot.RegionEntry;
+import me.seungeun.dto.AdminRegion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VaccineHospitalSnapshotStoreTest {
+
+    private final AdminRegionRegistry regionRegistry = new AdminRegionRegistry();
+
+    @TempDir
+    Path dir;
+
+    private VaccineHospitalSnapshotStore store;
+    private AdminRegion region;
+
+    @BeforeEach
+    void setUp() {
+        store = new VaccineHospitalSnapshotStore(regionRegistry);
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "path", dir.resolve("vaccine-hospitals.snapshot").toString());
+        region = regionRegistry.getRegions().get(0);
+    }
+
+    @Test
+    void roundTripsMissingFieldsAndLabels() {
+        VaccineInfo complete = hospital("종로연세의원", "02-000-0000", List.of("인플루엔자", "A형간염"));
+        VaccineInfo sparse = hospital(null, null, Arrays.asList("인플루엔자", null));
+        VaccineInfo noVaccines = hospital("서울의원", null, null);
+        Instant loadedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        store.save(VaccineHospitalSnapshot.of(List.of(
+                RegionEntry.restored(region, List.of(complete, sparse, noVaccines), loadedAt))));
+        VaccineHospitalSnapshot restored = store.load().orElseThrow();
+
+        RegionEntry entry = restored.getRegion(region.getKey());
+        assertEquals(loadedAt, entry.loadedAt());
+        assertEquals(List.of(complete, sparse, noVaccines), entry.hospitals());
+        assertNull(entry.hospitals().get(1).getVaccines().get(1));
+    }
+
+    @Test
+    void failedSaveKeepsNoTemporaryFile() throws IOException {
+        // A non-empty directory in place of the snapshot file makes the final move fail
+        Path target = dir.resolve("vaccine-hospitals.snapshot");
+        Files.createDirectories(target.resolve("blocker"));
+
+        store.save(VaccineHospitalSnapshot.of(List.of(
+                RegionEntry.of(region, List.of(hospital("종로연세의원", null, List.of("인플루엔자")))))));
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(List.of(target), files.toList());
+        }
+        assertTrue(Files.isDirectory(target));
+    }
+
+    private static VaccineInfo hospital(String name, String tel, List<String> vaccines) {
+        VaccineInfo info = new VaccineInfo();
+        info.setCenterName(name);
+        info.setAddress(name != null ? "서울특별시 종로구" : null);
+        info.setTel(tel);
+        info.setVaccines(vaccines);
+        info.setLat(37.57);
+        info.setLng(126.98);
+        return info;
+    }
+}
@@ -0,0 +1,77 @@
+package me.seungeun.cache;
+
+import me.seungeun.cache.VaccineHospitalCacheService.VaccineInfo;
+import me.seungeun.cache.VaccineHospitalSnapshot.RegionEntry;
+import me.seungeun.dto.AdminRegion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VaccineHospitalSnapshotTest {
+
+    private final List<AdminRegion> regions = new AdminRegionRegistry().getRegions();
+
+    // A Google place in Jongno, Seoul
+    private static final double LAT = 37.5730;
+    private static final double LNG = 126.9794;
+
+    @Test
+    void nearbyCloseNameBeatsExactNameInAnotherCity() {
+        VaccineInfo busan = hospital("연세내과의원", 35.1796, 129.0756);
+        VaccineInfo jongno = hospital("연세내과의원 종로", LAT + 0.0005, LNG);
+
+        HospitalNameIndex.Match match = snapshot(List.of(busan), List.of(jongno))
+                .findBestMatch("연세내과의원", LAT, LNG);
+
+        assertEquals(jongno, match.info());
+    }
+
+    @Test
+    void nothingNearbyMeansNoMatch() {
+        VaccineInfo busan = hospital("연세내과의원", 35.1796, 129.0756);
+        VaccineInfo jongno = hospital("서울중앙치과의원", LAT + 0.0005, LNG);
+
+        assertNull(snapshot(List.of(busan), List.of(jongno)).findBestMatch("연세내과의원", LAT, LNG));
+    }
+
+    @Test
+    void equallyCloseNamesGoToTheNearerHospital() {
+        VaccineInfo nearer = hospital("연세내과의원", LAT + 0.0010, LNG);
+        VaccineInfo farther = hospital("연세내과의원", LAT - 0.0030, LNG);
+
+        HospitalNameIndex.Match match = snapshot(List.of(farther), List.of(nearer))
+                .findBestMatch("연세내과의원", LAT, LNG);
+
+        assertEquals(nearer, match.info());
+    }
+
+    @Test
+    void nameLookupSearchesEveryRegionAtOnce() {
+        VaccineInfo first = hospital("서울중앙치과의원", 37.5, 127.0);
+        VaccineInfo sameName = hospital("서울중앙치과의원", 35.1, 129.0);
+        VaccineInfo other = hospital("부산연세소아과의원", 35.2, 129.1);
+        VaccineHospitalSnapshot snapshot = snapshot(List.of(first), List.of(sameName, other));
+
+        assertEquals(first, snapshot.findBestMatch("서울 중앙 치과의원").info());
+        assertEquals(other, snapshot.findBestMatch("부산연세소아과").info());
+        assertNull(snapshot.findBestMatch("대구한빛정형외과"));
+    }
+
+    private VaccineHospitalSnapshot snapshot(List<VaccineInfo> first, List<VaccineInfo> second) {
+        return VaccineHospitalSnapshot.of(List.of(
+                RegionEntry.of(regions.get(0), first),
+                RegionEntry.of(regions.get(1), second)));
+    }
+
+    private static VaccineInfo hospital(String name, double lat, double lng) {
+        VaccineInfo info = new VaccineInfo();
+        info.setCenterName(name);
+        info.setVaccines(List.of("인플루엔자"));
+        info.setLat(lat);
+        info.setLng(lng);
+        return info;
+    }
+}
@@ -0,0 +1,39 @@
+package me.seungeun.client;
+
+import me.seungeun.client.TranslationPlanner.FieldKind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationPlannerTest {
+
+    @Test
+    void latinFreeTextIsAlwaysSentForEnglish() {
+        assertTrue(TranslationPlanner.needsTranslation("Ouvert du lundi au vendredi", "en"));
+        assertTrue(TranslationPlanner.needsTranslation("Abierto de lunes a viernes", "en"));
+        assertTrue(TranslationPlanner.needsTranslation("Thu hai den thu sau", "en"));
+        assertTrue(TranslationPlanner.needsTranslation("Monday: 9:00 AM - 6:00 PM", FieldKind.FREE_TEXT, "en-US"));
+    }
+
+    @Test
+    void latinProperNounIsKeptForLatinScriptLanguages() {
+        assertFalse(TranslationPlanner.needsTranslation("Severance Hospital", FieldKind.PROPER_NOUN, "en"));
+        assertFalse(TranslationPlanner.needsTranslation("Severance Hospital", FieldKind.PROPER_NOUN, "fr"));
+        assertTrue(TranslationPlanner.needsTranslation("세브란스병원", FieldKind.PROPER_NOUN, "en"));
+    }
+
+    @Test
+    void scriptIdentifiesKoreanAndJapanese() {
+        assertFalse(TranslationPlanner.needsTranslation("월요일 오전 9시부터", "ko"));
+        assertFalse(TranslationPlanner.needsTranslation("月曜日の午前9時から", "ja"));
+        assertTrue(TranslationPlanner.needsTranslation("월요일 오전 9시부터", "ja"));
+    }
+
+    @Test
+    void textsWithoutLettersAreNeverSent() {
+        assertFalse(TranslationPlanner.needsTranslation("02-1234-5678", "en"));
+        assertFalse(TranslationPlanner.needsTranslation("Severance", FieldKind.NUMERIC, "ko"));
+        assertFalse(TranslationPlanner.needsTranslation(" ", "en"));
+    }
+}
@@ -0,0 +1,51 @@
+package me.seungeun.controller;
+
+import me.seungeun.client.FastApiClient;
+import me.seungeun.dto.FastApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CallScriptTest {
+
+    // Languages the stub client was asked for
+    private final List<String> languages = new ArrayList<>();
+
+    private final CallScript controller = new CallScript(new FastApiClient(null, null) {
+        @Override
+        public FastApiResponse generateResponse(String userQuestion, String userLang) {
+            languages.add(userLang);
+            return new FastApiResponse();
+        }
+    });
+
+    @Test
+    void nullLanguageMeansEnglish() {
+        Map<String, String> payload = new HashMap<>();
+        payload.put("question", "How do I book a flu shot?");
+        payload.put("language", null);
+
+        ResponseEntity<FastApiResponse> response = controller.ask(payload);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(List.of("en"), languages);
+    }
+
+    @Test
+    void missingQuestionIsRejected() {
+        Map<String, String> payload = new HashMap<>();
+        payload.put("question", null);
+        payload.put("language", "ko");
+
+        assertEquals(400, controller.ask(payload).getStatusCode().value());
+        assertEquals(400, controller.ask(Map.of("question", " ")).getStatusCode().value());
+        assertTrue(languages.isEmpty());
+    }
+}
@@ -0,0 +1,158 @@
+package me.seungeun.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.seungeun.cache.ChatAnswerCache;
+import me.seungeun.client.UpstreamWebClients;
+import me.seungeun.controller.ChatController;
+import me.seungeun.dto.ChatResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Streams answers from a local stub of the FastAPI /chat endpoint.
+ */
+class ChatServiceStreamTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    // Pause between two writes of the stub, so each write arrives in its own network read
+    private static final long WRITE_PAUSE_MS = 100;
+
+    private HttpServer server;
+    private ChatService chatService;
+
+    // Response the stub sends for the next /chat request
+    private volatile StubResponse stubResponse;
+
+    // Form bodies received by the stub
+    private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat", this::handle);
+        server.start();
+
+        WebClient fastApi = WebClient.create("http://127.0.0.1:" + server.getAddress().getPort());
+        chatService = new ChatService(new RestTemplate(), new UpstreamWebClients(null, null, null, fastApi),
+                new ChatAnswerCache());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void relaysChunkedPlainBodyAsItArrives() {
+        stubResponse = new StubResponse(200, "text/plain; charset=utf-8",
+                utf8("Get the "), utf8("flu shot "), utf8("every autumn."));
+
+        List<String> chunks = chatService.streamAnswerFromAI("When should I get a flu shot?", "en")
+                .collectList().block(TIMEOUT);
+
+        assertEquals(List.of("Get the ", "flu shot ", "every autumn."), chunks);
+        String request = requests.peek();
+        assertTrue(request.contains("user_text=When+should+I+get+a+flu+shot%3F"), request);
+        assertTrue(request.contains("user_lang=en"), request);
+    }
+
+    @Test
+    void relaysEventStreamEventByEvent() {
+        stubResponse = new StubResponse(200, "text/event-stream",
+                utf8("data: 독감 예방접종은\n\n"), utf8("data: 매년 가을에\n\n"), utf8("data: 맞으세요.\n\n"));
+
+        List<String> chunks = chatService.streamAnswerFromAI("독감 주사는 언제 맞나요?", "ko")
+                .collectList().block(TIMEOUT);
+
+        assertEquals(List.of("독감 예방접종은", "매년 가을에", "맞으세요."), chunks);
+    }
+
+    @Test
+    void keepsHangulWholeWhenSplitAcrossReads() {
+        byte[] answer = utf8("예방접종 안내");
+        // Cut inside the second syllable (3 bytes each) and inside the last one
+        stubResponse = new StubResponse(200, "text/plain; charset=utf-8",
+                Arrays.copyOfRange(answer, 0, 4),
+                Arrays.copyOfRange(answer, 4, answer.length - 1),
+                Arrays.copyOfRange(answer, answer.length - 1, answer.length));
+
+        List<String> chunks = chatService.streamAnswerFromAI("안내", "ko")
+                .collectList().block(TIMEOUT);
+
+        assertEquals("예방접종 안내", String.join("", chunks));
+        assertTrue(chunks.size() > 1, "answer should arrive in several chunks: " + chunks);
+        chunks.forEach(chunk -> assertFalse(chunk.contains("�"), "broken character in " + chunks));
+    }
+
+    @Test
+    void upstreamErrorEndsStreamWithErrorEvent() {
+        stubResponse = new StubResponse(500, "application/json", utf8("{\"detail\":\"model crashed\"}"));
+        ChatController controller = new ChatController(chatService);
+
+        List<ServerSentEvent<ChatResponseDto>> events = controller.streamFreeQuestion("question", "en")
+                .collectList().block(TIMEOUT);
+
+        assertEquals(1, events.size());
+        assertEquals("error", events.get(0).event());
+        assertFalse(events.get(0).data().isSuccess());
+    }
+
+    @Test
+    void successfulStreamEndsWithDoneEvent() {
+        stubResponse = new StubResponse(200, "text/plain; charset=utf-8", utf8("first "), utf8("second"));
+        ChatController controller = new ChatController(chatService);
+
+        List<ServerSentEvent<ChatResponseDto>> events = controller.streamFreeQuestion("question", "en")
+                .collectList().block(TIMEOUT);
+
+        assertEquals(List.of("chunk", "chunk", "done"), events.stream().map(ServerSentEvent::event).toList());
+        assertEquals("first ", events.get(0).data().getResponse());
+        assertTrue(events.stream().allMatch(event -> event.data().isSuccess()));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        StubResponse response = stubResponse;
+        exchange.getResponseHeaders().set("Content-Type", response.contentType());
+        // Length 0 selects chunked transfer encoding
+        exchange.sendResponseHeaders(response.status(), 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (byte[] part : response.parts()) {
+                out.write(part);
+                out.flush();
+                Thread.sleep(WRITE_PAUSE_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Status, content type and the body parts written one by one
+    private record StubResponse(int status, String contentType, byte[]... parts) {
+    }
+}